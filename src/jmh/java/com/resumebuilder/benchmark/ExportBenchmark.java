@@ -0,0 +1,86 @@
+package com.resumebuilder.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.export.DocxExportService;
+import com.resumebuilder.service.export.PdfExportService;
+import com.resumebuilder.service.export.PdfFontRegistry;
+import com.resumebuilder.service.export.TextExportService;
+import com.resumebuilder.service.export.template.PdfTemplateRegistry;
+
+/**
+ * PDF, DOCX and plain text export of synthetic resumes of increasing size.
+ *
+ * Reports throughput and the sampled latency distribution (p99 included); run with {@code -prof gc}
+ * for allocation per export. The {@code *Streamed} variants write to a discarding stream, as the
+ * streaming endpoints do, for comparison with the byte[] variants used by the buffered endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int entries;
+
+    private PdfExportService pdfExportService;
+    private DocxExportService docxExportService;
+    private TextExportService textExportService;
+    private Resume resume;
+
+    @Setup
+    public void setUp() {
+        PdfFontRegistry fontRegistry = new PdfFontRegistry("./fonts");
+        fontRegistry.load();
+        PdfTemplateRegistry templateRegistry = new PdfTemplateRegistry("./templates");
+        templateRegistry.load();
+        pdfExportService = new PdfExportService(fontRegistry, templateRegistry);
+        docxExportService = new DocxExportService();
+        textExportService = new TextExportService();
+        resume = SyntheticResumes.resume(new Random(42), entries);
+    }
+
+    @Benchmark
+    public byte[] pdf() throws IOException {
+        return pdfExportService.exportToPdf(resume);
+    }
+
+    @Benchmark
+    public void pdfStreamed() throws IOException {
+        pdfExportService.exportToPdf(resume, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public byte[] docx() throws IOException {
+        return docxExportService.exportToDocx(resume);
+    }
+
+    @Benchmark
+    public void docxStreamed() throws IOException {
+        docxExportService.exportToDocx(resume, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public String text() {
+        return textExportService.exportToText(resume);
+    }
+}
@@ -0,0 +1,50 @@
+package com.resumebuilder.benchmark;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.importer.JsonResumeImporter;
+
+/**
+ * JSON Resume import of documents of increasing size: throughput, sampled latency (p99 included)
+ * and, with {@code -prof gc}, allocation per import.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImportBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int entries;
+
+    private JsonResumeImporter importer;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        importer = new JsonResumeImporter();
+        json = SyntheticResumes.jsonResume(new Random(42), entries);
+    }
+
+    @Benchmark
+    public Resume importFromJson() throws IOException {
+        return importer.importFromJson(json);
+    }
+}
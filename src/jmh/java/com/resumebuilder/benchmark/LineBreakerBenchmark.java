@@ -0,0 +1,93 @@
+package com.resumebuilder.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.resumebuilder.service.export.FontMetrics;
+import com.resumebuilder.service.export.LineBreaker;
+
+/**
+ * Line wrapping of long WorkExperience responsibilities and Project descriptions:
+ * the cached-metrics {@link LineBreaker} against the previous measure-the-whole-line loop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LineBreakerBenchmark {
+
+    private static final float FONT_SIZE = 10;
+    private static final float MAX_WIDTH = 512;
+
+    @Param({"50", "500", "5000"})
+    public int words;
+
+    @Param({"responsibilities", "description"})
+    public String input;
+
+    private PDFont font;
+    private FontMetrics metrics;
+    private String[] paragraphs;
+
+    @Setup
+    public void setUp() {
+        font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        metrics = FontMetrics.of(font);
+        // Responsibilities are wrapped one bullet at a time, descriptions as a single paragraph
+        paragraphs = SyntheticResumes.paragraph(new Random(42), words, input.equals("description")).split("\n");
+    }
+
+    @Benchmark
+    public void cachedMetrics(Blackhole blackhole) throws IOException {
+        for (String text : paragraphs) {
+            blackhole.consume(LineBreaker.wrap(text, metrics, FONT_SIZE, MAX_WIDTH));
+        }
+    }
+
+    @Benchmark
+    public void remeasureWholeLine(Blackhole blackhole) throws IOException {
+        for (String text : paragraphs) {
+            blackhole.consume(remeasureWholeLine(text));
+        }
+    }
+
+    private List<String> remeasureWholeLine(String text) throws IOException {
+        List<String> lines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        for (String word : text.split(" ")) {
+            String testLine = line.length() == 0 ? word : line + " " + word;
+            float textWidth = font.getStringWidth(testLine) / 1000 * FONT_SIZE;
+            if (textWidth > MAX_WIDTH && line.length() > 0) {
+                lines.add(line.toString());
+                line = new StringBuilder(word);
+            } else {
+                line = new StringBuilder(testLine);
+            }
+        }
+        if (line.length() > 0) {
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,84 @@
+package com.resumebuilder.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.resumebuilder.dto.ResumeResponse;
+import com.resumebuilder.model.CustomSection;
+import com.resumebuilder.model.Education;
+import com.resumebuilder.model.PersonalInfo;
+import com.resumebuilder.model.Project;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.Skill;
+import com.resumebuilder.model.WorkExperience;
+
+/**
+ * Resume JSON responses: {@code entity} serializes the entity graph the way the API used to
+ * (indented, back-references cut so it terminates), {@code response} maps to
+ * {@link ResumeResponse} and writes compact JSON. The payload sizes of both are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @JsonIgnoreProperties({"user", "resume"})
+    private abstract static class BackReferenceMixIn {
+    }
+
+    @Param({"1", "10", "50"})
+    public int entries;
+
+    private ObjectMapper entityMapper;
+    private ObjectMapper responseMapper;
+    private Resume resume;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        entityMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        for (Class<?> type : new Class<?>[] {Resume.class, PersonalInfo.class, WorkExperience.class,
+                Education.class, Skill.class, Project.class, CustomSection.class}) {
+            entityMapper.addMixIn(type, BackReferenceMixIn.class);
+        }
+        responseMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        resume = SyntheticResumes.resume(new Random(42), entries);
+
+        System.out.printf("%nPayload bytes with %d entries: entity=%d, response=%d%n", entries,
+                entity().length, response().length);
+    }
+
+    @Benchmark
+    public byte[] entity() throws JsonProcessingException {
+        return entityMapper.writeValueAsBytes(resume);
+    }
+
+    @Benchmark
+    public byte[] response() throws JsonProcessingException {
+        return responseMapper.writeValueAsBytes(ResumeResponse.of(resume));
+    }
+}
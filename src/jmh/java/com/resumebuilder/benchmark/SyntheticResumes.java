@@ -0,0 +1,154 @@
+package com.resumebuilder.benchmark;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resumebuilder.model.Education;
+import com.resumebuilder.model.PersonalInfo;
+import com.resumebuilder.model.Project;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.ResumeSettings;
+import com.resumebuilder.model.Skill;
+import com.resumebuilder.model.WorkExperience;
+
+/**
+ * Deterministic synthetic resume content for benchmarks
+ */
+final class SyntheticResumes {
+
+    private static final String[] VOCABULARY = {
+        "led", "designed", "implemented", "migrated", "scalable", "distributed", "services", "reducing",
+        "latency", "by", "40%", "across", "teams", "Kubernetes", "PostgreSQL", "pipelines", "mentored",
+        "engineers", "and", "the", "for", "customer-facing", "analytics", "platform", "improved",
+        "throughput", "automated", "deployment", "observability", "architecture", "requirements"
+    };
+
+    private SyntheticResumes() {
+    }
+
+    /**
+     * A paragraph of the given word count; without newlines for descriptions, or broken into
+     * responsibility bullets of roughly a dozen words each
+     */
+    static String paragraph(Random random, int words, boolean prose) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(!prose && i % 12 == 0 ? "\n" : " ");
+            }
+            text.append(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * A fully populated resume with {@code entries} work experiences, educations, projects and
+     * skill groups, each with realistic amounts of text
+     */
+    static Resume resume(Random random, int entries) {
+        Resume resume = Resume.builder()
+                .title("Synthetic " + entries)
+                .templateName("professional")
+                .active(true)
+                .settings(ResumeSettings.builder().build())
+                .professionalSummary(paragraph(random, 80, true))
+                .build();
+        resume.setPersonalInfo(PersonalInfo.builder()
+                .firstName("Alex")
+                .lastName("Example")
+                .email("alex@example.com")
+                .phone("+1 555 0100")
+                .linkedinUrl("https://linkedin.com/in/alex")
+                .githubUrl("https://github.com/alex")
+                .build());
+
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < entries; i++) {
+            resume.addWorkExperience(WorkExperience.builder()
+                    .jobTitle("Engineer " + i)
+                    .company("Company " + i)
+                    .location("Remote")
+                    .startDate(start.plusYears(i))
+                    .endDate(start.plusYears(i + 1))
+                    .responsibilities(paragraph(random, 60, false))
+                    .displayOrder(i)
+                    .build());
+            resume.addEducation(Education.builder()
+                    .degree("Degree " + i)
+                    .fieldOfStudy("Computer Science")
+                    .institution("University " + i)
+                    .startDate(start.plusYears(i))
+                    .endDate(start.plusYears(i + 4))
+                    .gpa(3.5)
+                    .displayOrder(i)
+                    .build());
+            resume.addProject(Project.builder()
+                    .name("Project " + i)
+                    .description(paragraph(random, 50, true))
+                    .technologies("Java, Spring, PostgreSQL")
+                    .githubUrl("https://github.com/alex/project-" + i)
+                    .displayOrder(i)
+                    .build());
+            for (int j = 0; j < 4; j++) {
+                resume.addSkill(Skill.builder()
+                        .name(VOCABULARY[random.nextInt(VOCABULARY.length)])
+                        .category("Group " + (i % 5))
+                        .displayOrder(i * 4 + j)
+                        .build());
+            }
+        }
+        return resume;
+    }
+
+    /**
+     * The same shape of content as {@link #resume} in JSON Resume format
+     */
+    static String jsonResume(Random random, int entries) {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode root = mapper.createObjectNode();
+
+        ObjectNode basics = root.putObject("basics");
+        basics.put("name", "Alex Example");
+        basics.put("email", "alex@example.com");
+        basics.put("phone", "+1 555 0100");
+        basics.putObject("location").put("city", "Springfield").put("countryCode", "US");
+        basics.putArray("profiles").addObject().put("network", "GitHub").put("url", "https://github.com/alex");
+        root.put("summary", paragraph(random, 80, true));
+
+        ArrayNode work = root.putArray("work");
+        ArrayNode education = root.putArray("education");
+        ArrayNode projects = root.putArray("projects");
+        ArrayNode skills = root.putArray("skills");
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < entries; i++) {
+            ObjectNode job = work.addObject()
+                    .put("name", "Company " + i)
+                    .put("position", "Engineer " + i)
+                    .put("startDate", start.plusYears(i).toString())
+                    .put("endDate", start.plusYears(i + 1).toString());
+            ArrayNode highlights = job.putArray("highlights");
+            for (String bullet : paragraph(random, 60, false).split("\n")) {
+                highlights.add(bullet);
+            }
+            education.addObject()
+                    .put("institution", "University " + i)
+                    .put("studyType", "Degree " + i)
+                    .put("area", "Computer Science")
+                    .put("startDate", start.plusYears(i).toString())
+                    .put("endDate", start.plusYears(i + 4).toString())
+                    .put("score", "3.5");
+            ObjectNode project = projects.addObject()
+                    .put("name", "Project " + i)
+                    .put("description", paragraph(random, 50, true));
+            project.putArray("keywords").add("Java").add("Spring").add("PostgreSQL");
+            ArrayNode keywords = skills.addObject().put("name", "Group " + i).putArray("keywords");
+            for (int j = 0; j < 4; j++) {
+                keywords.add(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+            }
+        }
+        return root.toString();
+    }
+}
@@ -0,0 +1,90 @@
+package com.resumebuilder.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.export.DocumentFonts;
+import com.resumebuilder.service.export.PdfExportService;
+import com.resumebuilder.service.export.PdfFontRegistry;
+import com.resumebuilder.service.export.layout.LayoutBlock;
+import com.resumebuilder.service.export.layout.PageFrame;
+import com.resumebuilder.service.export.template.CompiledTemplate;
+import com.resumebuilder.service.export.template.PdfTemplateRegistry;
+
+/**
+ * Each built-in PDF template on the same synthetic resume: {@code layout} runs only the compiled
+ * render plan (measuring and wrapping into blocks), {@code pdf} the whole export including page
+ * breaking, drawing and saving.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateBenchmark {
+
+    @Param({"professional", "modern", "creative"})
+    public String template;
+
+    @Param({"10"})
+    public int entries;
+
+    private PdfExportService pdfExportService;
+    private CompiledTemplate compiledTemplate;
+    private Resume resume;
+    private PDDocument document;
+    private DocumentFonts fonts;
+    private PageFrame frame;
+
+    @Setup
+    public void setUp() throws IOException {
+        PdfFontRegistry fontRegistry = new PdfFontRegistry("./fonts");
+        fontRegistry.load();
+        PdfTemplateRegistry templateRegistry = new PdfTemplateRegistry("./templates");
+        templateRegistry.load();
+        pdfExportService = new PdfExportService(fontRegistry, templateRegistry);
+        compiledTemplate = templateRegistry.get(template);
+
+        resume = SyntheticResumes.resume(new Random(42), entries);
+        resume.setTemplateName(template);
+        document = new PDDocument();
+        fonts = fontRegistry.forDocument(document, resume.getSettings().getFontFamily());
+        frame = PageFrame.of(PDRectangle.LETTER, 20, 20, 20, 20);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        document.close();
+    }
+
+    @Benchmark
+    public List<LayoutBlock> layout() throws IOException {
+        return compiledTemplate.layout(resume, fonts, frame);
+    }
+
+    @Benchmark
+    public void pdf() throws IOException {
+        pdfExportService.exportToPdf(resume, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,104 @@
+package com.resumebuilder.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.resumebuilder.dto.ResumeResponse;
+import com.resumebuilder.service.importer.JsonResumeImporter;
+import com.resumebuilder.service.importer.JsonResumeImporter.Encoding;
+
+/**
+ * JSON against CBOR for a realistic (10 entries per section) and a very large (500) resume:
+ * encoding and decoding the {@link ResumeResponse} API body, and importing a JSON Resume document.
+ * The encoded sizes are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"10", "500"})
+    public int entries;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private JsonResumeImporter importer;
+    private ResumeResponse response;
+    private byte[] responseJson;
+    private byte[] responseCbor;
+    private byte[] importJson;
+    private byte[] importCbor;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cborMapper = new ObjectMapper(new CBORFactory())
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        importer = new JsonResumeImporter();
+
+        response = ResumeResponse.of(SyntheticResumes.resume(new Random(42), entries));
+        responseJson = jsonMapper.writeValueAsBytes(response);
+        responseCbor = cborMapper.writeValueAsBytes(response);
+        importJson = SyntheticResumes.jsonResume(new Random(42), entries).getBytes(StandardCharsets.UTF_8);
+        importCbor = cborMapper.writeValueAsBytes(jsonMapper.readTree(importJson));
+
+        System.out.printf("%nEncoded bytes with %d entries: response json=%d cbor=%d, import json=%d cbor=%d%n",
+                entries, responseJson.length, responseCbor.length, importJson.length, importCbor.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws IOException {
+        return cborMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ResumeResponse decodeJson() throws IOException {
+        return jsonMapper.readValue(responseJson, ResumeResponse.class);
+    }
+
+    @Benchmark
+    public ResumeResponse decodeCbor() throws IOException {
+        return cborMapper.readValue(responseCbor, ResumeResponse.class);
+    }
+
+    @Benchmark
+    public int importJson(Blackhole blackhole) throws IOException {
+        return importer.importAll(new ByteArrayInputStream(importJson), Encoding.JSON, blackhole::consume);
+    }
+
+    @Benchmark
+    public int importCbor(Blackhole blackhole) throws IOException {
+        return importer.importAll(new ByteArrayInputStream(importCbor), Encoding.CBOR, blackhole::consume);
+    }
+}
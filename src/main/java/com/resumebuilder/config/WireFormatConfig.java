@@ -0,0 +1,25 @@
+package com.resumebuilder.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Binary CBOR encoding of API bodies, used when a client sends or accepts {@code application/cbor}.
+ * JSON stays the default for every other request.
+ */
+@Configuration
+public class WireFormatConfig {
+
+    /**
+     * Uses the application's Jackson settings (modules, date format) so CBOR bodies carry the same
+     * fields and values as their JSON counterparts
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,47 @@
+package com.resumebuilder.controller;
+
+/**
+ * Entity tag helpers shared by the REST controllers
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Strong tag for an entity version, e.g. {@code "3"}
+     */
+    static String forVersion(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Reads the version from an If-Match header such as {@code "3"}; null when absent or not a version tag
+     */
+    static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) return null;
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) tag = tag.substring(2);
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks an If-None-Match header (possibly a list, possibly weak tags) against the current ETag
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag)) return true;
+        }
+        return false;
+    }
+}
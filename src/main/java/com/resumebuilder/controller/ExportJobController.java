@@ -0,0 +1,81 @@
+package com.resumebuilder.controller;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.resumebuilder.dto.ExportJobStatus;
+import com.resumebuilder.service.export.ExportFormat;
+import com.resumebuilder.service.export.ExportJob;
+import com.resumebuilder.service.export.ExportJobService;
+
+/**
+ * REST API controller for asynchronous export jobs
+ */
+@RestController
+@RequestMapping("/api")
+public class ExportJobController {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final ExportJobService exportJobService;
+
+    public ExportJobController(ExportJobService exportJobService) {
+        this.exportJobService = exportJobService;
+    }
+
+    @PostMapping("/resumes/{id}/exports")
+    public ResponseEntity<ExportJobStatus> submitExport(
+            @PathVariable @NonNull Long id,
+            @RequestParam(defaultValue = "pdf") String format) {
+        try {
+            ExportJob job = exportJobService.submit(
+                Objects.requireNonNull(id, "ID is required"),
+                ExportFormat.fromExtension(format)
+            );
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/exports/" + job.getId()))
+                    .body(ExportJobStatus.from(job));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+    }
+
+    @GetMapping("/exports/{jobId}")
+    public ResponseEntity<ExportJobStatus> getExportJob(@PathVariable String jobId) {
+        return exportJobService.findJob(jobId)
+                .map(ExportJobStatus::from)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/exports/{jobId}/download")
+    public ResponseEntity<byte[]> downloadExport(@PathVariable String jobId) {
+        ExportJob job = exportJobService.findJob(jobId).orElse(null);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (job.getStatus() != ExportJob.Status.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(job.getFormat().getMediaType());
+        headers.setContentDispositionFormData("attachment", "resume." + job.getFormat().getExtension());
+
+        return new ResponseEntity<>(job.getResult(), headers, HttpStatus.OK);
+    }
+}
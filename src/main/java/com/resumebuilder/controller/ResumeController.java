@@ -1,9 +1,15 @@
 package com.resumebuilder.controller;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -11,19 +17,41 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.resumebuilder.model.PersonalInfo;
+import com.resumebuilder.dto.BulkExportRequest;
+import com.resumebuilder.dto.ResumeEdit;
+import com.resumebuilder.dto.ResumeEditResult;
+import com.resumebuilder.dto.ResumeImportResult;
+import com.resumebuilder.dto.ResumeResponse;
+import com.resumebuilder.dto.ResumeSummaryPage;
+import com.resumebuilder.dto.ResumeSync;
+import com.resumebuilder.dto.ResumeSyncResult;
 import com.resumebuilder.model.Resume;
-import com.resumebuilder.model.WorkExperience;
+import com.resumebuilder.service.ResumeEditService;
 import com.resumebuilder.service.ResumeService;
+import com.resumebuilder.service.ResumeSyncService;
+import com.resumebuilder.service.SectionType;
+import com.resumebuilder.service.export.BulkExportService;
 import com.resumebuilder.service.export.DocxExportService;
+import com.resumebuilder.service.export.ExportCacheService;
+import com.resumebuilder.service.export.ExportCacheService.ExportKey;
+import com.resumebuilder.service.export.ExportFormat;
 import com.resumebuilder.service.export.PdfExportService;
+import com.resumebuilder.service.export.TextExportService;
+import com.resumebuilder.service.importer.JsonResumeImporter.Encoding;
+import com.resumebuilder.service.importer.ResumeImportService;
+import com.resumebuilder.service.share.SharedResumeCache;
+import com.resumebuilder.service.share.SharedResumeCache.Payload;
 
 /**
  * REST API controller for resume operations
@@ -32,21 +60,47 @@ import com.resumebuilder.service.export.PdfExportService;
 @RequestMapping("/api/resumes")
 public class ResumeController {
 
+    private static final MediaType HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+    // RFC 8742; Spring has no constant for it
+    private static final String APPLICATION_CBOR_SEQ_VALUE = "application/cbor-seq";
+    private static final MediaType APPLICATION_CBOR_SEQ = MediaType.parseMediaType(APPLICATION_CBOR_SEQ_VALUE);
+
     private final ResumeService resumeService;
+    private final ResumeEditService resumeEditService;
+    private final ResumeSyncService resumeSyncService;
     private final PdfExportService pdfExportService;
     private final DocxExportService docxExportService;
+    private final TextExportService textExportService;
+    private final ExportCacheService exportCacheService;
+    private final BulkExportService bulkExportService;
+    private final ResumeImportService resumeImportService;
+    private final SharedResumeCache sharedResumeCache;
 
     // @Autowired is unnecessary on constructor when there's only one constructor (Spring 4.3+)
     public ResumeController(ResumeService resumeService, 
+                           ResumeEditService resumeEditService,
+                           ResumeSyncService resumeSyncService,
                            PdfExportService pdfExportService,
-                           DocxExportService docxExportService) {
+                           DocxExportService docxExportService,
+                           TextExportService textExportService,
+                           ExportCacheService exportCacheService,
+                           BulkExportService bulkExportService,
+                           ResumeImportService resumeImportService,
+                           SharedResumeCache sharedResumeCache) {
         this.resumeService = resumeService;
+        this.resumeEditService = resumeEditService;
+        this.resumeSyncService = resumeSyncService;
         this.pdfExportService = pdfExportService;
         this.docxExportService = docxExportService;
+        this.textExportService = textExportService;
+        this.exportCacheService = exportCacheService;
+        this.bulkExportService = bulkExportService;
+        this.resumeImportService = resumeImportService;
+        this.sharedResumeCache = sharedResumeCache;
     }
 
     @PostMapping
-    public ResponseEntity<Resume> createResume(
+    public ResponseEntity<ResumeResponse> createResume(
             @RequestParam @NonNull Long userId,
             @RequestParam @NonNull String title,
             @RequestParam(required = false) String description) {
@@ -55,34 +109,172 @@ public class ResumeController {
             Objects.requireNonNull(title, "Title is required"),
             description
         );
-        return ResponseEntity.status(HttpStatus.CREATED).body(resume);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ResumeResponse.of(resume));
     }
 
+    /**
+     * Imports JSON Resume documents for a user: one document, or many as NDJSON, or the same
+     * CBOR-encoded (many as a CBOR sequence). The body is parsed as it arrives and persisted in batches.
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, APPLICATION_CBOR_SEQ_VALUE})
+    public ResponseEntity<ResumeImportResult> importResumes(
+            @RequestParam @NonNull Long userId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        Encoding encoding = MediaType.APPLICATION_CBOR.isCompatibleWith(contentType)
+                || APPLICATION_CBOR_SEQ.isCompatibleWith(contentType) ? Encoding.CBOR : Encoding.JSON;
+        try {
+            int imported = resumeImportService.importAll(
+                    Objects.requireNonNull(userId, "User ID is required"), body, encoding);
+            return ResponseEntity.status(HttpStatus.CREATED).body(new ResumeImportResult(imported));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Returns the resume; {@code fields} (e.g. {@code title,skills}) limits the response to those
+     * top-level fields plus the id
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<Resume> getResume(@PathVariable @NonNull Long id) {
-        return resumeService.findByIdWithAllDetails(Objects.requireNonNull(id, "ID is required"))
-                .map(ResponseEntity::ok)
+    public ResponseEntity<ResumeResponse> getResume(
+            @PathVariable @NonNull Long id,
+            @RequestParam(required = false) String fields) {
+        Set<String> selected;
+        try {
+            selected = ResumeResponse.parseFields(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return resumeService.findByIdWithSections(Objects.requireNonNull(id, "ID is required"),
+                        SectionType.fromFields(selected))
+                .map(resume -> ResponseEntity.ok()
+                        .eTag(ETags.forVersion(resume.getVersion()))
+                        .body(ResumeResponse.of(resume, selected)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Every resume of the user, newest first; {@code fields} selects fields as for
+     * {@link #getResume}. {@code /user/{userId}/summaries} pages through lightweight rows instead.
+     */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Resume>> getUserResumes(@PathVariable @NonNull Long userId) {
-        List<Resume> resumes = resumeService.findByUserId(Objects.requireNonNull(userId, "User ID is required"));
-        return ResponseEntity.ok(resumes);
+    public ResponseEntity<List<ResumeResponse>> getUserResumes(
+            @PathVariable @NonNull Long userId,
+            @RequestParam(required = false) String fields) {
+        Set<String> selected;
+        try {
+            selected = ResumeResponse.parseFields(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Resume> resumes = resumeService.findByUserIdWithSections(
+                Objects.requireNonNull(userId, "User ID is required"), SectionType.fromFields(selected));
+        return ResponseEntity.ok(resumes.stream().map(resume -> ResumeResponse.of(resume, selected)).toList());
+    }
+
+    /**
+     * One page of the user's resume summaries, newest first; {@code cursor} is the
+     * {@code nextCursor} of the previous page (400 if it is not one)
+     */
+    @GetMapping("/user/{userId}/summaries")
+    public ResponseEntity<ResumeSummaryPage> getUserResumeSummaries(
+            @PathVariable @NonNull Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            ResumeSummaryPage page = resumeService.findSummariesByUserId(
+                Objects.requireNonNull(userId, "User ID is required"), cursor, limit
+            );
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
+    /**
+     * Updates resume fields. With If-Match, the update only applies if the resume is still at that
+     * version (412 otherwise); without it, the update is unconditional.
+     */
     @PutMapping("/{id}")
-    public ResponseEntity<Resume> updateResume(
+    public ResponseEntity<ResumeResponse> updateResume(
             @PathVariable @NonNull Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String description,
             @RequestParam(required = false) String professionalSummary,
-            @RequestParam(required = false) String templateName) {
-        Resume updated = resumeService.updateResume(
-            Objects.requireNonNull(id, "ID is required"),
-            title, description, professionalSummary, templateName
-        );
-        return ResponseEntity.ok(updated);
+            @RequestParam(required = false) String templateName,
+            @RequestParam(required = false) String fields) {
+        Long expectedVersion = ETags.parseVersion(ifMatch);
+        if (ifMatch != null && expectedVersion == null && !ifMatch.trim().equals("*")) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        Set<String> selected;
+        try {
+            selected = ResumeResponse.parseFields(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            Resume updated = resumeService.updateResume(
+                Objects.requireNonNull(id, "ID is required"), expectedVersion,
+                title, description, professionalSummary, templateName
+            );
+            return ResponseEntity.ok()
+                    .eTag(ETags.forVersion(updated.getVersion()))
+                    .body(ResumeResponse.of(updated, selected));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+    }
+
+    /**
+     * Merges a batch of field and section edits made against an older copy of the resume.
+     * Applies all of them (200) or, if any overlaps a concurrent change, none (409 with the conflicts).
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<ResumeEditResult> editResume(
+            @PathVariable @NonNull Long id,
+            @RequestBody ResumeEdit edit) {
+        try {
+            ResumeEditResult result = resumeEditService.applyEdit(Objects.requireNonNull(id, "ID is required"), edit);
+            return ResponseEntity.status(result.isApplied() ? HttpStatus.OK : HttpStatus.CONFLICT)
+                    .eTag(ETags.forVersion(result.version()))
+                    .body(result);
+        } catch (OptimisticLockingFailureException e) {
+            // An entry changed between the conflict check and the write
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            // A missing resume, or an unknown field or section in the edit
+            return resumeService.findById(id).isPresent()
+                    ? ResponseEntity.badRequest().build()
+                    : ResponseEntity.notFound().build();
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Syncs a client copy of the resume: merges the client's edits like {@code PATCH}, and returns
+     * the version of every part with the content of those the client's versions do not match.
+     * 200 when the edits were applied, 409 with the same answer and the conflicts when none were.
+     */
+    @PostMapping("/{id}/sync")
+    public ResponseEntity<ResumeSyncResult> syncResume(
+            @PathVariable @NonNull Long id,
+            @RequestBody ResumeSync sync) {
+        try {
+            return resumeSyncService.sync(Objects.requireNonNull(id, "ID is required"), sync)
+                    .map(result -> ResponseEntity.status(result.isApplied() ? HttpStatus.OK : HttpStatus.CONFLICT)
+                            .body(result))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (OptimisticLockingFailureException e) {
+            // An entry changed between the conflict check and the write
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException | IOException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @DeleteMapping("/{id}")
@@ -103,24 +295,116 @@ public class ResumeController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Serves a shared resume from the share cache, which only reads the database on a miss
+     */
     @GetMapping("/shared/{token}")
-    public ResponseEntity<Resume> getSharedResume(@PathVariable String token) {
-        return resumeService.findByShareToken(token)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<byte[]> getSharedResume(
+            @PathVariable String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return sharedResumeCache.json(token)
+                .map(payload -> sharedResponse(payload, MediaType.APPLICATION_JSON, null, ifNoneMatch))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * The public HTML page of a shared resume, for requests that accept HTML (e.g. browsers).
+     * Pages are rendered and compressed once per resume change; each response writes the stored
+     * bytes of the encoding the client accepts.
+     */
+    @GetMapping(value = "/shared/{token}", produces = MediaType.TEXT_HTML_VALUE)
+    public ResponseEntity<byte[]> getSharedResumeHtml(
+            @PathVariable String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        try {
+            return sharedResumeCache.html(token, gzip)
+                    .map(payload -> sharedResponse(payload, HTML_UTF8, gzip ? "gzip" : null, ifNoneMatch))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/shared/{token}/pdf")
+    public ResponseEntity<byte[]> getSharedResumePdf(
+            @PathVariable String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            return sharedResumeCache.pdf(token)
+                    .map(payload -> sharedResponse(payload, MediaType.APPLICATION_PDF, null, ifNoneMatch))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Shared views may be kept by shared caches, but must be revalidated against the ETag, since a
+     * change to the resume takes effect immediately
+     */
+    private static ResponseEntity<byte[]> sharedResponse(Payload payload, MediaType contentType,
+                                                         String contentEncoding, String ifNoneMatch) {
+        CacheControl cacheControl = CacheControl.noCache().cachePublic();
+        if (ETags.matches(ifNoneMatch, payload.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(payload.etag())
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(contentType)
+                .eTag(payload.etag())
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (contentEncoding != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        }
+        return response.body(payload.body());
+    }
+
+    /**
+     * Whether an Accept-Encoding header allows gzip, i.e. lists gzip or * without q=0
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) continue;
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().replace(" ", "");
+                if (param.startsWith("q=") && param.substring(2).matches("0(\\.0*)?")) {
+                    refused = true;
+                }
+            }
+            if (!refused) return true;
+        }
+        return false;
+    }
+
     @GetMapping("/{id}/export/pdf")
-    public ResponseEntity<byte[]> exportToPdf(@PathVariable @NonNull Long id) {
+    public ResponseEntity<byte[]> exportToPdf(
+            @PathVariable @NonNull Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             Resume resume = resumeService.findByIdWithAllDetails(Objects.requireNonNull(id, "ID is required"))
                     .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
 
-            byte[] pdfBytes = pdfExportService.exportToPdf(resume);
+            ExportKey key = exportCacheService.keyFor(resume, ExportFormat.PDF);
+            if (ETags.matches(ifNoneMatch, key.etag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(key.etag()).build();
+            }
+
+            byte[] pdfBytes = exportCacheService.getOrRender(key, () -> pdfExportService.exportToPdf(resume));
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_PDF);
             headers.setContentDispositionFormData("attachment", "resume.pdf");
+            headers.setETag(key.etag());
 
             return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
         } catch (IOException e) {
@@ -129,16 +413,24 @@ public class ResumeController {
     }
 
     @GetMapping("/{id}/export/docx")
-    public ResponseEntity<byte[]> exportToDocx(@PathVariable @NonNull Long id) {
+    public ResponseEntity<byte[]> exportToDocx(
+            @PathVariable @NonNull Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             Resume resume = resumeService.findByIdWithAllDetails(Objects.requireNonNull(id, "ID is required"))
                     .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
 
-            byte[] docxBytes = docxExportService.exportToDocx(resume);
+            ExportKey key = exportCacheService.keyFor(resume, ExportFormat.DOCX);
+            if (ETags.matches(ifNoneMatch, key.etag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(key.etag()).build();
+            }
+
+            byte[] docxBytes = exportCacheService.getOrRender(key, () -> docxExportService.exportToDocx(resume));
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
             headers.setContentDispositionFormData("attachment", "resume.docx");
+            headers.setETag(key.etag());
 
             return new ResponseEntity<>(docxBytes, headers, HttpStatus.OK);
         } catch (IOException e) {
@@ -146,56 +438,84 @@ public class ResumeController {
         }
     }
 
+    /**
+     * Streams the PDF straight to the response with chunked transfer encoding,
+     * without materializing the document as a byte array or consulting the export cache.
+     */
+    @GetMapping("/{id}/export/pdf/stream")
+    public ResponseEntity<StreamingResponseBody> streamPdf(@PathVariable @NonNull Long id) {
+        Resume resume = resumeService.findByIdWithAllDetails(Objects.requireNonNull(id, "ID is required"))
+                .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDispositionFormData("attachment", "resume.pdf");
+
+        StreamingResponseBody body = out -> pdfExportService.exportToPdf(resume, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Streams the DOCX straight to the response with chunked transfer encoding,
+     * without materializing the document as a byte array or consulting the export cache.
+     */
+    @GetMapping("/{id}/export/docx/stream")
+    public ResponseEntity<StreamingResponseBody> streamDocx(@PathVariable @NonNull Long id) {
+        Resume resume = resumeService.findByIdWithAllDetails(Objects.requireNonNull(id, "ID is required"))
+                .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDispositionFormData("attachment", "resume.docx");
+
+        StreamingResponseBody body = out -> docxExportService.exportToDocx(resume, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Streams a ZIP with every requested resume rendered in every requested format.
+     * Resumes are rendered in parallel and written to the archive as each one finishes.
+     */
+    @PostMapping("/export/bulk")
+    public ResponseEntity<StreamingResponseBody> exportBulk(@RequestBody BulkExportRequest request) {
+        List<Long> resumeIds;
+        if (request.resumeIds() != null && !request.resumeIds().isEmpty()) {
+            resumeIds = request.resumeIds();
+        } else if (request.userId() != null) {
+            resumeIds = resumeService.findActiveResumeIdsByUserId(request.userId());
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+        if (resumeIds.size() > bulkExportService.getMaxResumes()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        Set<ExportFormat> formats = EnumSet.noneOf(ExportFormat.class);
+        if (request.formats() == null || request.formats().isEmpty()) {
+            formats.add(ExportFormat.PDF);
+        } else {
+            request.formats().forEach(format -> formats.add(ExportFormat.fromExtension(format)));
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/zip"));
+        headers.setContentDispositionFormData("attachment", "resumes.zip");
+
+        StreamingResponseBody body = out -> bulkExportService.writeZip(resumeIds, formats, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
     @GetMapping("/{id}/export/txt")
     public ResponseEntity<String> exportToText(@PathVariable @NonNull Long id) {
         Resume resume = resumeService.findByIdWithAllDetails(Objects.requireNonNull(id, "ID is required"))
                 .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
 
-        StringBuilder text = new StringBuilder();
-        
-        // Add personal info
-        PersonalInfo pi = resume.getPersonalInfo();
-        if (pi != null) {
-            String fullName = pi.getFirstName() + " " + pi.getLastName();
-            text.append(fullName).append("\n");
-            text.append(pi.getEmail()).append("\n");
-            if (pi.getPhone() != null) text.append(pi.getPhone()).append("\n");
-            text.append("\n");
-        }
-
-        // Add summary
-        String summary = resume.getProfessionalSummary();
-        if (summary != null && !summary.isEmpty()) {
-            text.append("PROFESSIONAL SUMMARY\n");
-            text.append(summary).append("\n\n");
-        }
-
-        // Add work experience
-        List<WorkExperience> workExperiences = resume.getWorkExperiences();
-        if (workExperiences != null && !workExperiences.isEmpty()) {
-            text.append("WORK EXPERIENCE\n");
-            workExperiences.forEach(we -> {
-                text.append(we.getJobTitle()).append(" - ").append(we.getCompany()).append("\n");
-                if (we.getStartDate() != null) {
-                    text.append(we.getStartDate().toString());
-                    if (we.getEndDate() != null) {
-                        text.append(" - ").append(we.getEndDate().toString());
-                    } else if (we.isCurrent()) {
-                        text.append(" - Present");
-                    }
-                    text.append("\n");
-                }
-                if (we.getResponsibilities() != null) {
-                    text.append(we.getResponsibilities()).append("\n");
-                }
-                text.append("\n");
-            });
-        }
+        String text = textExportService.exportToText(resume);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.TEXT_PLAIN);
         headers.setContentDispositionFormData("attachment", "resume.txt");
 
-        return new ResponseEntity<>(text.toString(), headers, HttpStatus.OK);
+        return new ResponseEntity<>(text, headers, HttpStatus.OK);
     }
 }
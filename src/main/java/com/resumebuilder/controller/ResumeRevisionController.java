@@ -0,0 +1,60 @@
+package com.resumebuilder.controller;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resumebuilder.dto.ResumeRevisionDiff;
+import com.resumebuilder.dto.ResumeRevisionInfo;
+import com.resumebuilder.service.history.ResumeHistoryService;
+
+/**
+ * REST API controller for reading a resume's version history
+ */
+@RestController
+@RequestMapping("/api/resumes")
+public class ResumeRevisionController {
+
+    private final ResumeHistoryService resumeHistoryService;
+
+    public ResumeRevisionController(ResumeHistoryService resumeHistoryService) {
+        this.resumeHistoryService = resumeHistoryService;
+    }
+
+    @GetMapping("/{resumeId}/revisions")
+    public ResponseEntity<List<ResumeRevisionInfo>> listRevisions(@PathVariable @NonNull Long resumeId) {
+        return ResponseEntity.ok(resumeHistoryService.listRevisions(
+            Objects.requireNonNull(resumeId, "Resume ID is required")));
+    }
+
+    @GetMapping("/{resumeId}/revisions/{revision}")
+    public ResponseEntity<ObjectNode> getRevision(@PathVariable @NonNull Long resumeId, @PathVariable int revision) {
+        try {
+            return ResponseEntity.ok(resumeHistoryService.getRevision(
+                Objects.requireNonNull(resumeId, "Resume ID is required"), revision));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/{resumeId}/revisions/diff")
+    public ResponseEntity<ResumeRevisionDiff> diff(
+            @PathVariable @NonNull Long resumeId,
+            @RequestParam int from,
+            @RequestParam int to) {
+        try {
+            return ResponseEntity.ok(resumeHistoryService.diff(
+                Objects.requireNonNull(resumeId, "Resume ID is required"), from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.resumebuilder.controller;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Objects;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resumebuilder.model.ResumeSection;
+import com.resumebuilder.service.ResumeSectionService;
+import com.resumebuilder.service.SectionType;
+
+/**
+ * REST API controller for editing single resume section entries.
+ *
+ * Each entry carries its own version as a strong ETag. PATCH and DELETE require it in If-Match
+ * and answer 412 when the entry has changed since, so autosave never overwrites a concurrent edit.
+ */
+@RestController
+@RequestMapping("/api/resumes")
+public class ResumeSectionController {
+
+    private static final String SECTION = "{section:work-experiences|educations|skills|projects|custom-sections}";
+
+    private final ResumeSectionService resumeSectionService;
+
+    public ResumeSectionController(ResumeSectionService resumeSectionService) {
+        this.resumeSectionService = resumeSectionService;
+    }
+
+    @PostMapping("/{resumeId}/" + SECTION)
+    public ResponseEntity<Void> addSection(
+            @PathVariable @NonNull Long resumeId,
+            @PathVariable String section,
+            @RequestBody ObjectNode fields) {
+        try {
+            ResumeSection created = resumeSectionService.addSection(
+                Objects.requireNonNull(resumeId, "Resume ID is required"), SectionType.fromPath(section), fields);
+            return ResponseEntity.created(URI.create("/api/resumes/" + resumeId + "/" + section + "/" + created.getId()))
+                    .eTag(versionTag(created))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IOException | DataIntegrityViolationException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PatchMapping("/{resumeId}/" + SECTION + "/{sectionId}")
+    public ResponseEntity<Void> patchSection(
+            @PathVariable @NonNull Long resumeId,
+            @PathVariable String section,
+            @PathVariable @NonNull Long sectionId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody ObjectNode patch) {
+        Long expectedVersion = ETags.parseVersion(ifMatch);
+        if (expectedVersion == null) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+        }
+        try {
+            ResumeSection updated = resumeSectionService.patchSection(
+                Objects.requireNonNull(resumeId, "Resume ID is required"), SectionType.fromPath(section),
+                Objects.requireNonNull(sectionId, "Section ID is required"), expectedVersion, patch);
+            return ResponseEntity.noContent().eTag(versionTag(updated)).build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IOException | DataIntegrityViolationException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @DeleteMapping("/{resumeId}/" + SECTION + "/{sectionId}")
+    public ResponseEntity<Void> deleteSection(
+            @PathVariable @NonNull Long resumeId,
+            @PathVariable String section,
+            @PathVariable @NonNull Long sectionId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = ETags.parseVersion(ifMatch);
+        if (expectedVersion == null) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+        }
+        try {
+            resumeSectionService.deleteSection(
+                Objects.requireNonNull(resumeId, "Resume ID is required"), SectionType.fromPath(section),
+                Objects.requireNonNull(sectionId, "Section ID is required"), expectedVersion);
+            return ResponseEntity.noContent().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    private static String versionTag(ResumeSection section) {
+        return ETags.forVersion(section.getVersion());
+    }
+}
@@ -0,0 +1,10 @@
+package com.resumebuilder.dto;
+
+import java.util.List;
+
+/**
+ * Request body for a bulk ZIP export: either explicit resume ids or every active resume of a user,
+ * in one or more formats ("pdf", "docx", "txt"; defaults to pdf)
+ */
+public record BulkExportRequest(Long userId, List<Long> resumeIds, List<String> formats) {
+}
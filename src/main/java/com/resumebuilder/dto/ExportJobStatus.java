@@ -0,0 +1,33 @@
+package com.resumebuilder.dto;
+
+import java.time.Instant;
+
+import com.resumebuilder.service.export.ExportJob;
+
+/**
+ * Polling view of an asynchronous export job
+ */
+public record ExportJobStatus(
+        String jobId,
+        Long resumeId,
+        String format,
+        String status,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant completedAt,
+        String error,
+        String downloadUrl) {
+
+    public static ExportJobStatus from(ExportJob job) {
+        return new ExportJobStatus(
+                job.getId(),
+                job.getResumeId(),
+                job.getFormat().getExtension(),
+                job.getStatus().name(),
+                job.getSubmittedAt(),
+                job.getStartedAt(),
+                job.getCompletedAt(),
+                job.getError(),
+                job.getStatus() == ExportJob.Status.COMPLETED ? "/api/exports/" + job.getId() + "/download" : null);
+    }
+}
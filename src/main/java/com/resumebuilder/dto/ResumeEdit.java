@@ -0,0 +1,25 @@
+package com.resumebuilder.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A batch of edits a client made against the copy of a resume it last loaded.
+ *
+ * Resume fields, including personal info fields named like {@code personalInfo.email}, carry the
+ * value the client started from alongside the new one. Section changes
+ * carry the version of the entry the client edited; an entry without an id is added, and
+ * {@code delete} removes the entry.
+ */
+public record ResumeEdit(
+        Map<String, FieldChange> fields,
+        List<SectionChange> sections) {
+
+    public record FieldChange(String base, String value) {
+    }
+
+    public record SectionChange(String section, Long id, Long version, ObjectNode fields, boolean delete) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.resumebuilder.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of merging a {@link ResumeEdit}: either every edit was applied, or none were and the
+ * conflicts list what other clients changed in the meantime
+ */
+public record ResumeEditResult(Long version, List<Conflict> conflicts) {
+
+    /**
+     * An edit that overlaps a concurrent change, e.g. {@code title} or {@code skills/42}
+     */
+    public record Conflict(String target, String reason) {
+    }
+
+    public boolean isApplied() {
+        return conflicts.isEmpty();
+    }
+}
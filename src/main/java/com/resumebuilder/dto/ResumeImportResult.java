@@ -0,0 +1,7 @@
+package com.resumebuilder.dto;
+
+/**
+ * Outcome of a JSON Resume import
+ */
+public record ResumeImportResult(int imported) {
+}
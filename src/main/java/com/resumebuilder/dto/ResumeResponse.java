@@ -0,0 +1,269 @@
+package com.resumebuilder.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.resumebuilder.model.CustomSection;
+import com.resumebuilder.model.Education;
+import com.resumebuilder.model.PersonalInfo;
+import com.resumebuilder.model.Project;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.ResumeSection;
+import com.resumebuilder.model.ResumeSettings;
+import com.resumebuilder.model.Skill;
+import com.resumebuilder.model.WorkExperience;
+
+/**
+ * API representation of a resume: its stored content, without the owning user or any entity
+ * back-reference. Fields not requested through a sparse fieldset, and null values, are omitted.
+ * All sections of the mapped resume must be initialized.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ResumeResponse(
+        Long id,
+        Long version,
+        String title,
+        String description,
+        String templateName,
+        Boolean active,
+        Personal personalInfo,
+        String professionalSummary,
+        List<EducationEntry> educations,
+        List<WorkEntry> workExperiences,
+        List<SkillEntry> skills,
+        List<ProjectEntry> projects,
+        List<CustomEntry> customSections,
+        Settings settings,
+        String shareableToken,
+        Boolean shareEnabled,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * Names accepted in a sparse fieldset; the id is always included
+     */
+    public static final Set<String> FIELDS = Set.of("version", "title", "description", "templateName", "active",
+            "personalInfo", "professionalSummary", "educations", "workExperiences", "skills", "projects",
+            "customSections", "settings", "shareableToken", "shareEnabled", "createdAt", "updatedAt");
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Personal(
+            String firstName,
+            String lastName,
+            String email,
+            String phone,
+            String address,
+            String city,
+            String state,
+            String zipCode,
+            String country,
+            String linkedinUrl,
+            String githubUrl,
+            String portfolioUrl,
+            String websiteUrl) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record EducationEntry(
+            Long id,
+            Long version,
+            String degree,
+            String fieldOfStudy,
+            String institution,
+            String location,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean current,
+            Double gpa,
+            Double gpaScale,
+            String description,
+            String achievements,
+            Integer displayOrder) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record WorkEntry(
+            Long id,
+            Long version,
+            String jobTitle,
+            String company,
+            String location,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean current,
+            String description,
+            String responsibilities,
+            String achievements,
+            Integer displayOrder) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record SkillEntry(
+            Long id,
+            Long version,
+            String name,
+            String category,
+            Skill.ProficiencyLevel proficiencyLevel,
+            Integer displayOrder,
+            boolean visible) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ProjectEntry(
+            Long id,
+            Long version,
+            String name,
+            String description,
+            String technologies,
+            String projectUrl,
+            String githubUrl,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean current,
+            String highlights,
+            String role,
+            Integer displayOrder) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record CustomEntry(
+            Long id,
+            Long version,
+            String sectionTitle,
+            String content,
+            CustomSection.ContentType contentType,
+            Integer displayOrder,
+            boolean visible) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Settings(
+            String primaryColor,
+            String secondaryColor,
+            String fontFamily,
+            Integer fontSize,
+            Double lineSpacing,
+            Integer marginTop,
+            Integer marginBottom,
+            Integer marginLeft,
+            Integer marginRight,
+            boolean showProfilePhoto,
+            String sectionOrder) {
+    }
+
+    public static ResumeResponse of(Resume resume) {
+        return of(resume, null);
+    }
+
+    /**
+     * Maps the requested fields of the resume; null requests every field. Sections that are not
+     * requested are not read.
+     */
+    public static ResumeResponse of(Resume resume, Set<String> fields) {
+        return of(resume, fields, entry -> true);
+    }
+
+    /**
+     * Maps the requested fields, keeping only the section entries the filter accepts
+     */
+    public static ResumeResponse of(Resume resume, Set<String> fields, Predicate<ResumeSection> entries) {
+        return new ResumeResponse(
+                resume.getId(),
+                wants(fields, "version") ? resume.getVersion() : null,
+                wants(fields, "title") ? resume.getTitle() : null,
+                wants(fields, "description") ? resume.getDescription() : null,
+                wants(fields, "templateName") ? resume.getTemplateName() : null,
+                wants(fields, "active") ? resume.isActive() : null,
+                wants(fields, "personalInfo") && resume.getPersonalInfo() != null
+                        ? personal(resume.getPersonalInfo()) : null,
+                wants(fields, "professionalSummary") ? resume.getProfessionalSummary() : null,
+                wants(fields, "educations") ? map(resume.getEducations(), entries, ResumeResponse::education) : null,
+                wants(fields, "workExperiences") ? map(resume.getWorkExperiences(), entries, ResumeResponse::work) : null,
+                wants(fields, "skills") ? map(resume.getSkills(), entries, ResumeResponse::skill) : null,
+                wants(fields, "projects") ? map(resume.getProjects(), entries, ResumeResponse::project) : null,
+                wants(fields, "customSections") ? map(resume.getCustomSections(), entries, ResumeResponse::custom) : null,
+                wants(fields, "settings") && resume.getSettings() != null ? settings(resume.getSettings()) : null,
+                wants(fields, "shareableToken") ? resume.getShareableToken() : null,
+                wants(fields, "shareEnabled") ? resume.isShareEnabled() : null,
+                wants(fields, "createdAt") ? resume.getCreatedAt() : null,
+                wants(fields, "updatedAt") ? resume.getUpdatedAt() : null);
+    }
+
+    /**
+     * Parses a comma-separated {@code fields} parameter; null or blank selects every field
+     *
+     * @throws IllegalArgumentException for a name not in {@link #FIELDS}
+     */
+    public static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty() || name.equals("id")) continue;
+            if (!FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            selected.add(name);
+        }
+        return selected;
+    }
+
+    private static boolean wants(Set<String> fields, String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    private static <E extends ResumeSection, R> List<R> map(List<E> entries, Predicate<ResumeSection> filter,
+                                                            Function<E, R> mapper) {
+        return entries.stream().filter(filter).map(mapper).toList();
+    }
+
+    private static Personal personal(PersonalInfo pi) {
+        return new Personal(pi.getFirstName(), pi.getLastName(), pi.getEmail(), pi.getPhone(), pi.getAddress(),
+                pi.getCity(), pi.getState(), pi.getZipCode(), pi.getCountry(), pi.getLinkedinUrl(),
+                pi.getGithubUrl(), pi.getPortfolioUrl(), pi.getWebsiteUrl());
+    }
+
+    private static EducationEntry education(Education edu) {
+        return new EducationEntry(edu.getId(), edu.getVersion(), edu.getDegree(), edu.getFieldOfStudy(),
+                edu.getInstitution(), edu.getLocation(), edu.getStartDate(), edu.getEndDate(), edu.isCurrent(),
+                edu.getGpa(), edu.getGpaScale(), edu.getDescription(), edu.getAchievements(), edu.getDisplayOrder());
+    }
+
+    private static WorkEntry work(WorkExperience we) {
+        return new WorkEntry(we.getId(), we.getVersion(), we.getJobTitle(), we.getCompany(), we.getLocation(),
+                we.getStartDate(), we.getEndDate(), we.isCurrent(), we.getDescription(), we.getResponsibilities(),
+                we.getAchievements(), we.getDisplayOrder());
+    }
+
+    private static SkillEntry skill(Skill skill) {
+        return new SkillEntry(skill.getId(), skill.getVersion(), skill.getName(), skill.getCategory(),
+                skill.getProficiencyLevel(), skill.getDisplayOrder(), skill.isVisible());
+    }
+
+    private static ProjectEntry project(Project project) {
+        return new ProjectEntry(project.getId(), project.getVersion(), project.getName(), project.getDescription(),
+                project.getTechnologies(), project.getProjectUrl(), project.getGithubUrl(), project.getStartDate(),
+                project.getEndDate(), project.isCurrent(), project.getHighlights(), project.getRole(),
+                project.getDisplayOrder());
+    }
+
+    private static CustomEntry custom(CustomSection custom) {
+        return new CustomEntry(custom.getId(), custom.getVersion(), custom.getSectionTitle(), custom.getContent(),
+                custom.getContentType(), custom.getDisplayOrder(), custom.isVisible());
+    }
+
+    private static Settings settings(ResumeSettings settings) {
+        return new Settings(settings.getPrimaryColor(), settings.getSecondaryColor(), settings.getFontFamily(),
+                settings.getFontSize(), settings.getLineSpacing(), settings.getMarginTop(),
+                settings.getMarginBottom(), settings.getMarginLeft(), settings.getMarginRight(),
+                settings.isShowProfilePhoto(), settings.getSectionOrder());
+    }
+}
@@ -0,0 +1,19 @@
+package com.resumebuilder.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Field-level differences between two revisions of a resume
+ */
+public record ResumeRevisionDiff(int from, int to, List<Change> changes) {
+
+    /**
+     * One changed value, addressed by JSON Pointer into the revision content (section entries are
+     * keyed by id, e.g. {@code /skills/42/name}). {@code before} or {@code after} is null when the
+     * value was added or removed.
+     */
+    public record Change(String path, JsonNode before, JsonNode after) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.resumebuilder.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Metadata of one stored revision; {@code storedBytes} is its compressed size
+ */
+public record ResumeRevisionInfo(
+        int revision,
+        Long resumeVersion,
+        boolean full,
+        int storedBytes,
+        LocalDateTime createdAt) {
+}
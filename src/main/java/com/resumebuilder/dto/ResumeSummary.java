@@ -0,0 +1,20 @@
+package com.resumebuilder.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight read model for resume listings: scalar columns plus section counts,
+ * selected in a single query without touching any entity collection
+ */
+public record ResumeSummary(
+        Long id,
+        String title,
+        String templateName,
+        boolean active,
+        LocalDateTime updatedAt,
+        int educationCount,
+        int workExperienceCount,
+        int skillCount,
+        int projectCount,
+        int customSectionCount) {
+}
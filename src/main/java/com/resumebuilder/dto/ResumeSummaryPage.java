@@ -0,0 +1,47 @@
+package com.resumebuilder.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * One keyset page of {@link ResumeSummary} rows ordered by updatedAt DESC, id DESC.
+ * {@code nextCursor} is null on the last page; otherwise pass it back as {@code cursor}.
+ */
+public record ResumeSummaryPage(List<ResumeSummary> items, String nextCursor) {
+
+    /**
+     * Position after which the next page starts
+     */
+    public record Cursor(LocalDateTime updatedAt, Long id) {
+
+        public String encode() {
+            String raw = updatedAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.valueOf(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+        }
+    }
+
+    /**
+     * Builds a page from up to {@code limit + 1} rows; the extra row only signals that another page exists
+     */
+    public static ResumeSummaryPage of(List<ResumeSummary> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new ResumeSummaryPage(rows, null);
+        }
+        List<ResumeSummary> items = rows.subList(0, limit);
+        ResumeSummary last = items.get(limit - 1);
+        return new ResumeSummaryPage(List.copyOf(items), new Cursor(last.updatedAt(), last.id()).encode());
+    }
+}
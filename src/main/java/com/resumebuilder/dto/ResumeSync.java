@@ -0,0 +1,19 @@
+package com.resumebuilder.dto;
+
+import java.util.Map;
+
+/**
+ * A client's sync request: the version of every resume part it holds, the version of every
+ * section entry it holds, and the edits it made since, if any.
+ *
+ * Parts are {@code resume} (the resume's own fields, personal info and settings) and the section
+ * lists by their response name, e.g. {@code skills}. Part versions are opaque strings handed out by
+ * an earlier {@link ResumeSyncResult}; a part without a version is sent in full. Entry versions map
+ * entry ids to their version per section; a changed section the client sends none for is sent in
+ * full, otherwise only its new and changed entries are.
+ */
+public record ResumeSync(
+        Map<String, String> versions,
+        Map<String, Map<Long, Long>> entries,
+        ResumeEdit changes) {
+}
@@ -0,0 +1,20 @@
+package com.resumebuilder.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answer to a {@link ResumeSync}: the current version of every part, the content of what differs
+ * from the client's copy (other fields are omitted), the ids of entries the client holds that no
+ * longer exist by section, and the conflicts that kept the client's edits from being applied
+ */
+public record ResumeSyncResult(
+        Map<String, String> versions,
+        ResumeResponse changed,
+        Map<String, List<Long>> removed,
+        List<ResumeEditResult.Conflict> conflicts) {
+
+    public boolean isApplied() {
+        return conflicts.isEmpty();
+    }
+}
@@ -0,0 +1,53 @@
+package com.resumebuilder.dto;
+
+import java.time.LocalDate;
+
+import com.resumebuilder.model.CustomSection;
+import com.resumebuilder.model.Education;
+import com.resumebuilder.model.Project;
+import com.resumebuilder.model.ResumeSection;
+import com.resumebuilder.model.Skill;
+import com.resumebuilder.model.WorkExperience;
+
+/**
+ * Lightweight read model for one line of a section list, selected without loading the entry.
+ * The id is null for entries that are not persisted yet.
+ */
+public record SectionListItem(
+        Long id,
+        String title,
+        String subtitle,
+        String detail) {
+
+    public SectionListItem(Long id, String title, String subtitle) {
+        this(id, title, subtitle, null);
+    }
+
+    /**
+     * Work experience line, with the entry's date range as the detail
+     */
+    public SectionListItem(Long id, String title, String subtitle, LocalDate startDate, LocalDate endDate,
+                           boolean current) {
+        this(id, title, subtitle, WorkExperience.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .current(current)
+                .build()
+                .getDateRange());
+    }
+
+    public static SectionListItem of(ResumeSection entry) {
+        if (entry instanceof WorkExperience we) {
+            return new SectionListItem(we.getId(), we.getJobTitle(), we.getCompany(), we.getDateRange());
+        } else if (entry instanceof Education edu) {
+            return new SectionListItem(edu.getId(), edu.getDegree(), edu.getInstitution());
+        } else if (entry instanceof Skill skill) {
+            return new SectionListItem(skill.getId(), skill.getName(), skill.getCategory());
+        } else if (entry instanceof Project project) {
+            return new SectionListItem(project.getId(), project.getName(), project.getTechnologies());
+        } else if (entry instanceof CustomSection custom) {
+            return new SectionListItem(custom.getId(), custom.getSectionTitle(), null);
+        }
+        throw new IllegalArgumentException("Unknown section entry: " + entry.getClass().getName());
+    }
+}
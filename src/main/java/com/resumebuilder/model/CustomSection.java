@@ -4,23 +4,38 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Custom section for additional resume content (e.g., Certifications, Publications, Volunteer Work)
  */
 @Entity
-@Table(name = "custom_sections")
+@DynamicUpdate
+@Table(name = "custom_sections", indexes = {
+    @Index(name = "idx_custom_sections_resume_order", columnList = "resume_id, display_order, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class CustomSection {
+public class CustomSection implements ResumeSection {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "custom_sections_seq")
+    @SequenceGenerator(name = "custom_sections_seq", sequenceName = "custom_sections_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "resume_id", nullable = false)
     private Resume resume;
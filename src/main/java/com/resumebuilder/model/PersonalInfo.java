@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Personal information section of a resume
@@ -18,9 +21,19 @@ import lombok.NoArgsConstructor;
 public class PersonalInfo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "personal_info_seq")
+    @SequenceGenerator(name = "personal_info_seq", sequenceName = "personal_info_seq", allocationSize = 50)
     private Long id;
 
+    // Personal info changes do not touch the resume row, so they are versioned here; concurrent
+    // edits of the same resume's personal info fail instead of overwriting each other
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "resume_id", nullable = false)
     private Resume resume;
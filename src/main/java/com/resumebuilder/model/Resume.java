@@ -4,8 +4,13 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -16,17 +21,35 @@ import java.util.List;
  * Resume entity representing a complete resume document
  */
 @Entity
-@Table(name = "resumes")
+@Table(name = "resumes", indexes = {
+    @Index(name = "idx_resumes_user_updated", columnList = "user_id, updated_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Resume {
 
+    // Section collections of this many resumes are initialized together by one IN-list query
+    private static final int SECTION_BATCH_SIZE = 32;
+
+    // Pooled sequence ids (rather than IDENTITY) let Hibernate batch the inserts of a resume and its sections
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resumes_seq")
+    @SequenceGenerator(name = "resumes_seq", sequenceName = "resumes_seq", allocationSize = 50)
     private Long id;
 
+    // Covers the resume's own columns; section entries are versioned individually, so edits
+    // to different entries (or to an entry and a resume field) never conflict with each other
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Associations are left out of toString/equals/hashCode, which would otherwise load them
+    // and recurse through their back-references
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -51,27 +74,47 @@ public class Resume {
     @Column(name = "professional_summary", length = 2000)
     private String professionalSummary;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = SECTION_BATCH_SIZE)
+    @OptimisticLock(excluded = true)
     @OrderBy("startDate DESC")
     @Builder.Default
     private List<Education> educations = new ArrayList<>();
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = SECTION_BATCH_SIZE)
+    @OptimisticLock(excluded = true)
     @OrderBy("startDate DESC")
     @Builder.Default
     private List<WorkExperience> workExperiences = new ArrayList<>();
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = SECTION_BATCH_SIZE)
+    @OptimisticLock(excluded = true)
     @OrderBy("displayOrder ASC")
     @Builder.Default
     private List<Skill> skills = new ArrayList<>();
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = SECTION_BATCH_SIZE)
+    @OptimisticLock(excluded = true)
     @OrderBy("startDate DESC")
     @Builder.Default
     private List<Project> projects = new ArrayList<>();
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = SECTION_BATCH_SIZE)
+    @OptimisticLock(excluded = true)
     @OrderBy("displayOrder ASC")
     @Builder.Default
     private List<CustomSection> customSections = new ArrayList<>();
@@ -0,0 +1,57 @@
+package com.resumebuilder.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * One saved state in a resume's version history.
+ *
+ * The data is either a full snapshot or a delta that turns the next newer revision back into this
+ * one; the newest revision is always full. It references the resume by id only, so history rows
+ * never block deleting the resume itself.
+ */
+@Entity
+@Table(name = "resume_revisions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_resume_revisions_resume_revision", columnNames = {"resume_id", "revision"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_revisions_seq")
+    @SequenceGenerator(name = "resume_revisions_seq", sequenceName = "resume_revisions_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "resume_id", nullable = false)
+    private Long resumeId;
+
+    @Column(nullable = false)
+    private int revision;
+
+    // Resume.version at the time of the save, matching the ETag clients saw
+    @Column(name = "resume_version")
+    private Long resumeVersion;
+
+    @Column(name = "is_full", nullable = false)
+    private boolean full;
+
+    // Deflate-compressed; see service.history.RevisionCodec
+    @Column(nullable = false, length = 1_048_576)
+    private byte[] data;
+
+    @Column(name = "data_size", nullable = false)
+    private int dataSize;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,15 @@
+package com.resumebuilder.model;
+
+/**
+ * An entry in one of a resume's section lists, stored and versioned independently of the resume
+ */
+public interface ResumeSection {
+
+    Long getId();
+
+    Long getVersion();
+
+    Resume getResume();
+
+    void setResume(Resume resume);
+}
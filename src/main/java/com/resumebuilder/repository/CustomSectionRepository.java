@@ -1,13 +1,27 @@
 package com.resumebuilder.repository;
 
+import com.resumebuilder.dto.SectionListItem;
 import com.resumebuilder.model.CustomSection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CustomSectionRepository extends JpaRepository<CustomSection, Long> {
+    @Query("SELECT c FROM CustomSection c WHERE c.id = :id AND c.resume.id = :resumeId")
+    Optional<CustomSection> findByIdAndResumeId(@Param("id") Long id, @Param("resumeId") Long resumeId);
+
     List<CustomSection> findByResumeIdOrderByDisplayOrderAsc(Long resumeId);
     List<CustomSection> findByResumeIdAndVisibleTrue(Long resumeId);
+
+    @Query("SELECT new com.resumebuilder.dto.SectionListItem(c.id, c.sectionTitle, CAST(NULL AS String)) " +
+           "FROM CustomSection c WHERE c.resume.id = :resumeId ORDER BY c.displayOrder, c.id")
+    List<SectionListItem> findListItemsByResumeId(@Param("resumeId") Long resumeId, Pageable pageable);
+
+    long countByResumeId(Long resumeId);
 }
@@ -1,12 +1,26 @@
 package com.resumebuilder.repository;
 
+import com.resumebuilder.dto.SectionListItem;
 import com.resumebuilder.model.Education;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EducationRepository extends JpaRepository<Education, Long> {
+    @Query("SELECT e FROM Education e WHERE e.id = :id AND e.resume.id = :resumeId")
+    Optional<Education> findByIdAndResumeId(@Param("id") Long id, @Param("resumeId") Long resumeId);
+
     List<Education> findByResumeIdOrderByStartDateDesc(Long resumeId);
+
+    @Query("SELECT new com.resumebuilder.dto.SectionListItem(e.id, e.degree, e.institution) " +
+           "FROM Education e WHERE e.resume.id = :resumeId ORDER BY e.startDate DESC, e.id DESC")
+    List<SectionListItem> findListItemsByResumeId(@Param("resumeId") Long resumeId, Pageable pageable);
+
+    long countByResumeId(Long resumeId);
 }
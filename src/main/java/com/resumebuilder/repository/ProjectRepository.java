@@ -1,12 +1,26 @@
 package com.resumebuilder.repository;
 
+import com.resumebuilder.dto.SectionListItem;
 import com.resumebuilder.model.Project;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+    @Query("SELECT p FROM Project p WHERE p.id = :id AND p.resume.id = :resumeId")
+    Optional<Project> findByIdAndResumeId(@Param("id") Long id, @Param("resumeId") Long resumeId);
+
     List<Project> findByResumeIdOrderByStartDateDesc(Long resumeId);
+
+    @Query("SELECT new com.resumebuilder.dto.SectionListItem(p.id, p.name, p.technologies) " +
+           "FROM Project p WHERE p.resume.id = :resumeId ORDER BY p.startDate DESC, p.id DESC")
+    List<SectionListItem> findListItemsByResumeId(@Param("resumeId") Long resumeId, Pageable pageable);
+
+    long countByResumeId(Long resumeId);
 }
@@ -1,11 +1,15 @@
 package com.resumebuilder.repository;
 
+import com.resumebuilder.dto.ResumeSummary;
 import com.resumebuilder.model.Resume;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,21 +25,37 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     
     @Query("SELECT r FROM Resume r WHERE r.user.id = :userId AND r.active = true ORDER BY r.updatedAt DESC")
     List<Resume> findActiveResumesByUser(@Param("userId") Long userId);
+
+    @Query("SELECT r.id FROM Resume r WHERE r.user.id = :userId AND r.active = true ORDER BY r.updatedAt DESC")
+    List<Long> findActiveResumeIdsByUser(@Param("userId") Long userId);
     
     Optional<Resume> findByShareableToken(String shareableToken);
     
     long countByUserId(Long userId);
     
-    @Query("SELECT r FROM Resume r LEFT JOIN FETCH r.personalInfo WHERE r.id = :id")
-    Optional<Resume> findByIdWithPersonalInfo(@Param("id") Long id);
-    
-    @Query("SELECT r FROM Resume r " +
-           "LEFT JOIN FETCH r.personalInfo " +
-           "LEFT JOIN FETCH r.educations " +
-           "LEFT JOIN FETCH r.workExperiences " +
-           "LEFT JOIN FETCH r.skills " +
-           "LEFT JOIN FETCH r.projects " +
-           "LEFT JOIN FETCH r.customSections " +
-           "WHERE r.id = :id")
-    Optional<Resume> findByIdWithAllDetails(@Param("id") Long id);
+    /**
+     * The resume with its personal info in one query. Section lists are bags, so they are left out
+     * of the graph (fetching several at once multiplies their rows) and loaded by their own queries.
+     */
+    @EntityGraph(attributePaths = "personalInfo")
+    Optional<Resume> findWithPersonalInfoById(Long id);
+
+    @EntityGraph(attributePaths = "personalInfo")
+    List<Resume> findWithPersonalInfoByUserIdOrderByUpdatedAtDesc(Long userId);
+
+    @Query("SELECT new com.resumebuilder.dto.ResumeSummary(r.id, r.title, r.templateName, r.active, r.updatedAt, " +
+           "SIZE(r.educations), SIZE(r.workExperiences), SIZE(r.skills), SIZE(r.projects), SIZE(r.customSections)) " +
+           "FROM Resume r WHERE r.user.id = :userId " +
+           "ORDER BY r.updatedAt DESC, r.id DESC")
+    List<ResumeSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT new com.resumebuilder.dto.ResumeSummary(r.id, r.title, r.templateName, r.active, r.updatedAt, " +
+           "SIZE(r.educations), SIZE(r.workExperiences), SIZE(r.skills), SIZE(r.projects), SIZE(r.customSections)) " +
+           "FROM Resume r WHERE r.user.id = :userId " +
+           "AND (r.updatedAt < :updatedAt OR (r.updatedAt = :updatedAt AND r.id < :id)) " +
+           "ORDER BY r.updatedAt DESC, r.id DESC")
+    List<ResumeSummary> findSummariesByUserIdAfter(@Param("userId") Long userId,
+                                                   @Param("updatedAt") LocalDateTime updatedAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
 }
@@ -0,0 +1,38 @@
+package com.resumebuilder.repository;
+
+import com.resumebuilder.dto.ResumeRevisionInfo;
+import com.resumebuilder.model.ResumeRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResumeRevisionRepository extends JpaRepository<ResumeRevision, Long> {
+    Optional<ResumeRevision> findFirstByResumeIdOrderByRevisionDesc(Long resumeId);
+
+    @Query("SELECT new com.resumebuilder.dto.ResumeRevisionInfo(r.revision, r.resumeVersion, r.full, " +
+           "r.dataSize, r.createdAt) " +
+           "FROM ResumeRevision r WHERE r.resumeId = :resumeId ORDER BY r.revision DESC")
+    List<ResumeRevisionInfo> findInfoByResumeId(@Param("resumeId") Long resumeId);
+
+    /**
+     * The nearest full snapshot at or above the given revision
+     */
+    Optional<ResumeRevision> findFirstByResumeIdAndFullTrueAndRevisionGreaterThanEqualOrderByRevisionAsc(
+            Long resumeId, int revision);
+
+    List<ResumeRevision> findByResumeIdAndRevisionBetweenOrderByRevisionDesc(Long resumeId, int from, int to);
+
+    @Modifying
+    @Query("DELETE FROM ResumeRevision r WHERE r.resumeId = :resumeId AND r.revision <= :revision")
+    int deleteUpToRevision(@Param("resumeId") Long resumeId, @Param("revision") int revision);
+
+    @Modifying
+    @Query("DELETE FROM ResumeRevision r WHERE r.resumeId = :resumeId")
+    int deleteByResumeId(@Param("resumeId") Long resumeId);
+}
@@ -1,13 +1,27 @@
 package com.resumebuilder.repository;
 
+import com.resumebuilder.dto.SectionListItem;
 import com.resumebuilder.model.Skill;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SkillRepository extends JpaRepository<Skill, Long> {
+    @Query("SELECT s FROM Skill s WHERE s.id = :id AND s.resume.id = :resumeId")
+    Optional<Skill> findByIdAndResumeId(@Param("id") Long id, @Param("resumeId") Long resumeId);
+
     List<Skill> findByResumeIdOrderByDisplayOrderAsc(Long resumeId);
     List<Skill> findByResumeIdAndCategory(Long resumeId, String category);
+
+    @Query("SELECT new com.resumebuilder.dto.SectionListItem(s.id, s.name, s.category) " +
+           "FROM Skill s WHERE s.resume.id = :resumeId ORDER BY s.displayOrder, s.id")
+    List<SectionListItem> findListItemsByResumeId(@Param("resumeId") Long resumeId, Pageable pageable);
+
+    long countByResumeId(Long resumeId);
 }
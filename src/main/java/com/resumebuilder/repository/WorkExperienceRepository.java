@@ -1,12 +1,26 @@
 package com.resumebuilder.repository;
 
+import com.resumebuilder.dto.SectionListItem;
 import com.resumebuilder.model.WorkExperience;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface WorkExperienceRepository extends JpaRepository<WorkExperience, Long> {
+    @Query("SELECT w FROM WorkExperience w WHERE w.id = :id AND w.resume.id = :resumeId")
+    Optional<WorkExperience> findByIdAndResumeId(@Param("id") Long id, @Param("resumeId") Long resumeId);
+
     List<WorkExperience> findByResumeIdOrderByStartDateDesc(Long resumeId);
+
+    @Query("SELECT new com.resumebuilder.dto.SectionListItem(w.id, w.jobTitle, w.company, w.startDate, w.endDate, w.current) " +
+           "FROM WorkExperience w WHERE w.resume.id = :resumeId ORDER BY w.startDate DESC, w.id DESC")
+    List<SectionListItem> findListItemsByResumeId(@Param("resumeId") Long resumeId, Pageable pageable);
+
+    long countByResumeId(Long resumeId);
 }
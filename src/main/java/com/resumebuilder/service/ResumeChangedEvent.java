@@ -0,0 +1,8 @@
+package com.resumebuilder.service;
+
+/**
+ * Published by {@link ResumeService} whenever a resume or one of its sections is modified or deleted.
+ * Caches keyed on resume content listen for it to drop derived artifacts.
+ */
+public record ResumeChangedEvent(Long resumeId) {
+}
@@ -0,0 +1,166 @@
+package com.resumebuilder.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resumebuilder.dto.ResumeEdit;
+import com.resumebuilder.dto.ResumeEditResult;
+import com.resumebuilder.dto.ResumeEditResult.Conflict;
+import com.resumebuilder.model.PersonalInfo;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.ResumeSection;
+import com.resumebuilder.repository.ResumeRepository;
+
+/**
+ * Merges edits made against an older copy of a resume with whatever other clients saved since.
+ *
+ * A resume field is written when its stored value still equals the value the client started from
+ * (or already equals the new value); a section entry is written when it is still at the version the
+ * client edited. Edits that pass both checks do not overlap any concurrent change and are applied
+ * together. If any edit overlaps, nothing is applied and the overlapping edits are reported, so the
+ * client can reload just those and retry.
+ */
+@Service
+@Transactional
+public class ResumeEditService {
+
+    private enum ResumeField {
+        TITLE("title", Resume::getTitle, Resume::setTitle),
+        DESCRIPTION("description", Resume::getDescription, Resume::setDescription),
+        PROFESSIONAL_SUMMARY("professionalSummary", Resume::getProfessionalSummary, Resume::setProfessionalSummary),
+        TEMPLATE_NAME("templateName", Resume::getTemplateName, Resume::setTemplateName),
+        FIRST_NAME("personalInfo.firstName",
+                personalInfoGetter(PersonalInfo::getFirstName), personalInfoSetter(PersonalInfo::setFirstName)),
+        LAST_NAME("personalInfo.lastName",
+                personalInfoGetter(PersonalInfo::getLastName), personalInfoSetter(PersonalInfo::setLastName)),
+        EMAIL("personalInfo.email",
+                personalInfoGetter(PersonalInfo::getEmail), personalInfoSetter(PersonalInfo::setEmail)),
+        PHONE("personalInfo.phone",
+                personalInfoGetter(PersonalInfo::getPhone), personalInfoSetter(PersonalInfo::setPhone)),
+        ADDRESS("personalInfo.address",
+                personalInfoGetter(PersonalInfo::getAddress), personalInfoSetter(PersonalInfo::setAddress)),
+        CITY("personalInfo.city",
+                personalInfoGetter(PersonalInfo::getCity), personalInfoSetter(PersonalInfo::setCity)),
+        STATE("personalInfo.state",
+                personalInfoGetter(PersonalInfo::getState), personalInfoSetter(PersonalInfo::setState)),
+        ZIP_CODE("personalInfo.zipCode",
+                personalInfoGetter(PersonalInfo::getZipCode), personalInfoSetter(PersonalInfo::setZipCode)),
+        LINKEDIN_URL("personalInfo.linkedinUrl",
+                personalInfoGetter(PersonalInfo::getLinkedinUrl), personalInfoSetter(PersonalInfo::setLinkedinUrl)),
+        GITHUB_URL("personalInfo.githubUrl",
+                personalInfoGetter(PersonalInfo::getGithubUrl), personalInfoSetter(PersonalInfo::setGithubUrl)),
+        PORTFOLIO_URL("personalInfo.portfolioUrl",
+                personalInfoGetter(PersonalInfo::getPortfolioUrl), personalInfoSetter(PersonalInfo::setPortfolioUrl));
+
+        private final String name;
+        private final Function<Resume, String> getter;
+        private final BiConsumer<Resume, String> setter;
+
+        ResumeField(String name, Function<Resume, String> getter, BiConsumer<Resume, String> setter) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        static ResumeField fromName(String name) {
+            for (ResumeField field : values()) {
+                if (field.name.equals(name)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Unknown resume field: " + name);
+        }
+    }
+
+    private final ResumeRepository resumeRepository;
+    private final ResumeSectionService resumeSectionService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ResumeEditService(ResumeRepository resumeRepository,
+                             ResumeSectionService resumeSectionService,
+                             ApplicationEventPublisher eventPublisher) {
+        this.resumeRepository = resumeRepository;
+        this.resumeSectionService = resumeSectionService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public ResumeEditResult applyEdit(@NonNull Long resumeId, ResumeEdit edit) throws IOException {
+        Resume resume = resumeRepository.findById(Objects.requireNonNull(resumeId, "Resume ID must not be null"))
+                .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
+        Map<String, ResumeEdit.FieldChange> fields = edit.fields() != null ? edit.fields() : Map.of();
+        List<ResumeEdit.SectionChange> sections = edit.sections() != null ? edit.sections() : List.of();
+
+        List<Conflict> conflicts = new ArrayList<>();
+        for (Map.Entry<String, ResumeEdit.FieldChange> entry : fields.entrySet()) {
+            String stored = ResumeField.fromName(entry.getKey()).getter.apply(resume);
+            ResumeEdit.FieldChange change = entry.getValue();
+            if (!Objects.equals(stored, change.base()) && !Objects.equals(stored, change.value())) {
+                conflicts.add(new Conflict(entry.getKey(), "changed by another client"));
+            }
+        }
+        for (ResumeEdit.SectionChange change : sections) {
+            SectionType type = SectionType.fromPath(change.section());
+            if (change.id() == null) {
+                continue;
+            }
+            Optional<? extends ResumeSection> stored = resumeSectionService.findSection(resumeId, type, change.id());
+            String target = type.getPath() + "/" + change.id();
+            if (stored.isEmpty()) {
+                conflicts.add(new Conflict(target, "deleted by another client"));
+            } else if (!Objects.equals(stored.get().getVersion(), change.version())) {
+                conflicts.add(new Conflict(target, "changed by another client"));
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            return new ResumeEditResult(resume.getVersion(), conflicts);
+        }
+
+        for (Map.Entry<String, ResumeEdit.FieldChange> entry : fields.entrySet()) {
+            ResumeField.fromName(entry.getKey()).setter.accept(resume, entry.getValue().value());
+        }
+        for (ResumeEdit.SectionChange change : sections) {
+            SectionType type = SectionType.fromPath(change.section());
+            ObjectNode values = change.fields() != null ? change.fields() : JsonNodeFactory.instance.objectNode();
+            if (change.id() == null) {
+                resumeSectionService.addSection(resumeId, type, values);
+            } else if (change.delete()) {
+                resumeSectionService.deleteSection(resumeId, type, change.id(), change.version());
+            } else {
+                resumeSectionService.patchSection(resumeId, type, change.id(), change.version(), values);
+            }
+        }
+
+        Resume saved = resumeRepository.saveAndFlush(resume);
+        eventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
+        return new ResumeEditResult(saved.getVersion(), List.of());
+    }
+
+    private static Function<Resume, String> personalInfoGetter(Function<PersonalInfo, String> getter) {
+        return resume -> resume.getPersonalInfo() != null ? getter.apply(resume.getPersonalInfo()) : null;
+    }
+
+    private static BiConsumer<Resume, String> personalInfoSetter(BiConsumer<PersonalInfo, String> setter) {
+        return (resume, value) -> setter.accept(personalInfo(resume), value);
+    }
+
+    private static PersonalInfo personalInfo(Resume resume) {
+        if (resume.getPersonalInfo() == null) {
+            // The required columns stay empty until the client sends them
+            resume.setPersonalInfo(PersonalInfo.builder().firstName("").lastName("").email("").build());
+        }
+        return resume.getPersonalInfo();
+    }
+}
@@ -0,0 +1,197 @@
+package com.resumebuilder.service;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resumebuilder.dto.SectionListItem;
+import com.resumebuilder.model.CustomSection;
+import com.resumebuilder.model.Education;
+import com.resumebuilder.model.Project;
+import com.resumebuilder.model.ResumeSection;
+import com.resumebuilder.model.Skill;
+import com.resumebuilder.model.WorkExperience;
+import com.resumebuilder.repository.CustomSectionRepository;
+import com.resumebuilder.repository.EducationRepository;
+import com.resumebuilder.repository.ProjectRepository;
+import com.resumebuilder.repository.ResumeRepository;
+import com.resumebuilder.repository.SkillRepository;
+import com.resumebuilder.repository.WorkExperienceRepository;
+
+/**
+ * Edits single section entries (a skill, a work experience, ...) through their own repositories.
+ *
+ * Unlike the {@link ResumeService} mutators, the resume aggregate is never loaded or merged: an edit
+ * reads the one row by id and resume id, checks the version the client last saw, and flushes an UPDATE
+ * of just the changed columns. Concurrent edits of the same entry fail with an
+ * {@link OptimisticLockingFailureException} instead of overwriting each other.
+ */
+@Service
+@Transactional
+public class ResumeSectionService {
+
+    // Fields a client may not set: identity, ownership and the optimistic lock
+    private static final List<String> PROTECTED_FIELDS = List.of("id", "version", "resume");
+
+    private record SectionStore<T extends ResumeSection>(
+            JpaRepository<T, Long> repository,
+            BiFunction<Long, Long, Optional<T>> finder,
+            Function<Long, List<T>> allFinder,
+            BiFunction<Long, Pageable, List<SectionListItem>> itemFinder,
+            ToLongFunction<Long> counter) {
+    }
+
+    private final ResumeRepository resumeRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<SectionType, SectionStore<? extends ResumeSection>> stores = new EnumMap<>(SectionType.class);
+
+    public ResumeSectionService(ResumeRepository resumeRepository,
+                                WorkExperienceRepository workExperienceRepository,
+                                EducationRepository educationRepository,
+                                SkillRepository skillRepository,
+                                ProjectRepository projectRepository,
+                                CustomSectionRepository customSectionRepository,
+                                ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher) {
+        this.resumeRepository = resumeRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        stores.put(SectionType.WORK_EXPERIENCES, new SectionStore<WorkExperience>(
+                workExperienceRepository, workExperienceRepository::findByIdAndResumeId, workExperienceRepository::findByResumeIdOrderByStartDateDesc,
+                workExperienceRepository::findListItemsByResumeId, workExperienceRepository::countByResumeId));
+        stores.put(SectionType.EDUCATIONS, new SectionStore<Education>(
+                educationRepository, educationRepository::findByIdAndResumeId, educationRepository::findByResumeIdOrderByStartDateDesc,
+                educationRepository::findListItemsByResumeId, educationRepository::countByResumeId));
+        stores.put(SectionType.SKILLS, new SectionStore<Skill>(
+                skillRepository, skillRepository::findByIdAndResumeId, skillRepository::findByResumeIdOrderByDisplayOrderAsc,
+                skillRepository::findListItemsByResumeId, skillRepository::countByResumeId));
+        stores.put(SectionType.PROJECTS, new SectionStore<Project>(
+                projectRepository, projectRepository::findByIdAndResumeId, projectRepository::findByResumeIdOrderByStartDateDesc,
+                projectRepository::findListItemsByResumeId, projectRepository::countByResumeId));
+        stores.put(SectionType.CUSTOM_SECTIONS, new SectionStore<CustomSection>(
+                customSectionRepository, customSectionRepository::findByIdAndResumeId, customSectionRepository::findByResumeIdOrderByDisplayOrderAsc,
+                customSectionRepository::findListItemsByResumeId, customSectionRepository::countByResumeId));
+    }
+
+    public Optional<? extends ResumeSection> findSection(@NonNull Long resumeId, SectionType type, @NonNull Long sectionId) {
+        return stores.get(type).finder().apply(
+                Objects.requireNonNull(sectionId, "Section ID must not be null"),
+                Objects.requireNonNull(resumeId, "Resume ID must not be null"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<? extends ResumeSection> findSections(@NonNull Long resumeId, SectionType type) {
+        return store(type).allFinder().apply(Objects.requireNonNull(resumeId, "Resume ID must not be null"));
+    }
+
+    /**
+     * One page of a section as list lines, in the section's display order
+     */
+    @Transactional(readOnly = true)
+    public List<SectionListItem> listSectionItems(@NonNull Long resumeId, SectionType type, Pageable pageable) {
+        return store(type).itemFinder().apply(Objects.requireNonNull(resumeId, "Resume ID must not be null"), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public long countSection(@NonNull Long resumeId, SectionType type) {
+        return store(type).counter().applyAsLong(Objects.requireNonNull(resumeId, "Resume ID must not be null"));
+    }
+
+    /**
+     * Adds an entry to a resume section without loading the resume
+     */
+    public ResumeSection addSection(@NonNull Long resumeId, SectionType type, ObjectNode fields) throws IOException {
+        Objects.requireNonNull(resumeId, "Resume ID must not be null");
+        if (!resumeRepository.existsById(resumeId)) {
+            throw new IllegalArgumentException("Resume not found");
+        }
+        return add(store(type), type, resumeId, fields);
+    }
+
+    /**
+     * Applies the given fields to one entry, provided it is still at {@code expectedVersion}.
+     * Fields absent from the patch keep their stored values.
+     */
+    public ResumeSection patchSection(@NonNull Long resumeId, SectionType type, @NonNull Long sectionId,
+                                      long expectedVersion, ObjectNode patch) throws IOException {
+        return patch(store(type), type, resumeId, sectionId, expectedVersion, patch);
+    }
+
+    /**
+     * Deletes one entry, provided it is still at {@code expectedVersion}
+     */
+    public void deleteSection(@NonNull Long resumeId, SectionType type, @NonNull Long sectionId, long expectedVersion) {
+        delete(store(type), type, resumeId, sectionId, expectedVersion);
+    }
+
+    private <T extends ResumeSection> T add(SectionStore<T> store, SectionType type, Long resumeId, ObjectNode fields)
+            throws IOException {
+        @SuppressWarnings("unchecked")
+        T section = (T) objectMapper.treeToValue(withoutProtectedFields(fields), type.getEntityType());
+        section.setResume(resumeRepository.getReferenceById(resumeId));
+
+        T saved = store.repository().saveAndFlush(section);
+        eventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
+        return saved;
+    }
+
+    private <T extends ResumeSection> T patch(SectionStore<T> store, SectionType type, Long resumeId, Long sectionId,
+                                              long expectedVersion, ObjectNode patch) throws IOException {
+        T section = findCurrent(store, type, resumeId, sectionId, expectedVersion);
+        objectMapper.readerForUpdating(section).readValue(withoutProtectedFields(patch));
+
+        // Flushing here bumps the version, which the caller hands back as the new ETag
+        T saved = store.repository().saveAndFlush(section);
+        eventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
+        return saved;
+    }
+
+    private <T extends ResumeSection> void delete(SectionStore<T> store, SectionType type, Long resumeId,
+                                                  Long sectionId, long expectedVersion) {
+        T section = findCurrent(store, type, resumeId, sectionId, expectedVersion);
+        store.repository().delete(section);
+        store.repository().flush();
+        eventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
+    }
+
+    private <T extends ResumeSection> T findCurrent(SectionStore<T> store, SectionType type, Long resumeId,
+                                                    Long sectionId, long expectedVersion) {
+        T section = store.finder().apply(
+                Objects.requireNonNull(sectionId, "Section ID must not be null"),
+                Objects.requireNonNull(resumeId, "Resume ID must not be null"))
+                .orElseThrow(() -> new IllegalArgumentException("Section entry not found"));
+        if (!Objects.equals(section.getVersion(), expectedVersion)) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "%s %d is at version %d, not %d", type.getPath(), sectionId, section.getVersion(), expectedVersion));
+        }
+        return section;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends ResumeSection> SectionStore<T> store(SectionType type) {
+        return (SectionStore<T>) stores.get(type);
+    }
+
+    private static ObjectNode withoutProtectedFields(ObjectNode fields) {
+        ObjectNode copy = fields.deepCopy();
+        copy.remove(PROTECTED_FIELDS);
+        return copy;
+    }
+}
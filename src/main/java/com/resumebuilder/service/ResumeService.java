@@ -1,14 +1,23 @@
 package com.resumebuilder.service;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.resumebuilder.dto.ResumeSummary;
+import com.resumebuilder.dto.ResumeSummaryPage;
 import com.resumebuilder.model.CustomSection;
 import com.resumebuilder.model.Education;
 import com.resumebuilder.model.PersonalInfo;
@@ -33,8 +42,11 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class ResumeService {
 
+    private static final int MAX_SUMMARY_PAGE_SIZE = 100;
+
     private final ResumeRepository resumeRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @NonNull
     @SuppressWarnings("null") // Spring Data JPA guarantees @NonNull return from save()
@@ -102,9 +114,38 @@ public class ResumeService {
         return resumeRepository.findById(Objects.requireNonNull(id, "ID must not be null"));
     }
 
+    /**
+     * Loads a resume with every section initialized.
+     * The resume and its personal info come from one query, then each section collection is
+     * loaded by its own secondary SELECT. Fetch-joining all five lists at once would multiply
+     * their sizes into a cartesian product (and Hibernate rejects multiple bag fetches outright).
+     */
     @Transactional(readOnly = true)
     public Optional<Resume> findByIdWithAllDetails(@NonNull Long id) {
-        return resumeRepository.findByIdWithAllDetails(Objects.requireNonNull(id, "ID must not be null"));
+        return findByIdWithSections(id, EnumSet.allOf(SectionType.class));
+    }
+
+    /**
+     * Loads a resume and its personal info with only the given sections initialized, each by its
+     * own query
+     */
+    @Transactional(readOnly = true)
+    public Optional<Resume> findByIdWithSections(@NonNull Long id, Set<SectionType> sections) {
+        return resumeRepository.findWithPersonalInfoById(Objects.requireNonNull(id, "ID must not be null"))
+                .map(resume -> initializeSections(resume, sections));
+    }
+
+    /**
+     * Loads the user's resumes, newest first, with their personal info and the given sections
+     * initialized. Each section is loaded for up to 32 resumes per query, so the query count
+     * does not grow with every resume.
+     */
+    @Transactional(readOnly = true)
+    public List<Resume> findByUserIdWithSections(@NonNull Long userId, Set<SectionType> sections) {
+        List<Resume> resumes = resumeRepository.findWithPersonalInfoByUserIdOrderByUpdatedAtDesc(
+                Objects.requireNonNull(userId, "User ID must not be null"));
+        resumes.forEach(resume -> initializeSections(resume, sections));
+        return resumes;
     }
 
     @Transactional(readOnly = true)
@@ -112,24 +153,63 @@ public class ResumeService {
         return resumeRepository.findByUserIdOrderByUpdatedAtDesc(Objects.requireNonNull(userId, "User ID must not be null"));
     }
 
+    /**
+     * Returns one keyset page of resume summaries, newest first. Each page is a single indexed
+     * range scan on (user_id, updated_at, id), so its cost does not grow with the page number.
+     */
+    @Transactional(readOnly = true)
+    public ResumeSummaryPage findSummariesByUserId(@NonNull Long userId, String cursor, int limit) {
+        Objects.requireNonNull(userId, "User ID must not be null");
+        int pageSize = Math.max(1, Math.min(limit, MAX_SUMMARY_PAGE_SIZE));
+        // Fetch one extra row to learn whether another page exists
+        Pageable window = PageRequest.of(0, pageSize + 1);
+
+        List<ResumeSummary> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = resumeRepository.findSummariesByUserId(userId, window);
+        } else {
+            ResumeSummaryPage.Cursor after = ResumeSummaryPage.Cursor.decode(cursor);
+            rows = resumeRepository.findSummariesByUserIdAfter(userId, after.updatedAt(), after.id(), window);
+        }
+        return ResumeSummaryPage.of(rows, pageSize);
+    }
+
     @Transactional(readOnly = true)
     public List<Resume> findActiveResumesByUserId(@NonNull Long userId) {
         return resumeRepository.findByUserIdAndActiveTrue(Objects.requireNonNull(userId, "User ID must not be null"));
     }
 
+    @Transactional(readOnly = true)
+    public List<Long> findActiveResumeIdsByUserId(@NonNull Long userId) {
+        return resumeRepository.findActiveResumeIdsByUser(Objects.requireNonNull(userId, "User ID must not be null"));
+    }
+
     @NonNull
-    @SuppressWarnings("null") // Spring Data JPA guarantees @NonNull return from save()
     public Resume updateResume(@NonNull Long resumeId, String title, String description,
                               String professionalSummary, String templateName) {
+        return updateResume(resumeId, null, title, description, professionalSummary, templateName);
+    }
+
+    /**
+     * Updates the given fields, provided the resume is still at {@code expectedVersion}.
+     * A null expected version updates unconditionally.
+     *
+     * @throws OptimisticLockingFailureException if another client saved the resume since
+     */
+    @NonNull
+    @SuppressWarnings("null") // Spring Data JPA guarantees @NonNull return from save()
+    public Resume updateResume(@NonNull Long resumeId, Long expectedVersion, String title, String description,
+                              String professionalSummary, String templateName) {
         Resume resume = resumeRepository.findById(Objects.requireNonNull(resumeId, "Resume ID must not be null"))
                 .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
+        checkVersion(resume, expectedVersion);
 
         if (title != null) resume.setTitle(title);
         if (description != null) resume.setDescription(description);
         if (professionalSummary != null) resume.setProfessionalSummary(professionalSummary);
         if (templateName != null) resume.setTemplateName(templateName);
 
-        return resumeRepository.save(resume);
+        return saveAndNotify(resume);
     }
 
     @NonNull
@@ -139,7 +219,7 @@ public class ResumeService {
                 .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
 
         resume.setSettings(settings);
-        return resumeRepository.save(resume);
+        return saveAndNotify(resume);
     }
 
     @NonNull
@@ -149,7 +229,7 @@ public class ResumeService {
                 .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
 
         resume.setActive(!resume.isActive());
-        return resumeRepository.save(resume);
+        return saveAndNotify(resume);
     }
 
     @NonNull
@@ -160,24 +240,31 @@ public class ResumeService {
         String token = UUID.randomUUID().toString();
         resume.setShareableToken(token);
         resume.setShareEnabled(true);
-        resumeRepository.save(resume);
+        saveAndNotify(resume);
 
         return Objects.requireNonNull(token, "Token generation failed");
     }
 
     public void disableSharing(@NonNull Long resumeId) {
         Resume resume = resumeRepository.findById(Objects.requireNonNull(resumeId, "Resume ID must not be null"))
-                .orElseThrow(() -> new IllegalArgumentException("Resume not found"));        resume.setShareEnabled(false);
-        resumeRepository.save(resume);
+                .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
+        resume.setShareEnabled(false);
+        saveAndNotify(resume);
     }
 
+    /**
+     * The fully loaded resume behind a share link, if sharing is still enabled for it
+     */
     @Transactional(readOnly = true)
     public Optional<Resume> findByShareToken(String token) {
-        return resumeRepository.findByShareableToken(token);
+        return resumeRepository.findByShareableToken(token)
+                .filter(Resume::isShareEnabled)
+                .map(resume -> initializeSections(resume, EnumSet.allOf(SectionType.class)));
     }
 
     public void deleteResume(@NonNull Long resumeId) {
         resumeRepository.deleteById(Objects.requireNonNull(resumeId, "Resume ID must not be null"));
+        eventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
     }
 
     @NonNull
@@ -187,7 +274,7 @@ public class ResumeService {
                 .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
 
         resume.setPersonalInfo(personalInfo);
-        return resumeRepository.save(resume);
+        return saveAndNotify(resume);
     }
 
     @NonNull
@@ -197,7 +284,7 @@ public class ResumeService {
                 .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
 
         resume.addEducation(education);
-        return resumeRepository.save(resume);
+        return saveAndNotify(resume);
     }
 
     @NonNull
@@ -207,7 +294,7 @@ public class ResumeService {
                 .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
 
         resume.addWorkExperience(workExperience);
-        return resumeRepository.save(resume);
+        return saveAndNotify(resume);
     }
 
     @NonNull
@@ -217,7 +304,7 @@ public class ResumeService {
                 .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
 
         resume.addSkill(skill);
-        return resumeRepository.save(resume);
+        return saveAndNotify(resume);
     }
 
     @NonNull
@@ -227,7 +314,7 @@ public class ResumeService {
                 .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
 
         resume.addProject(project);
-        return resumeRepository.save(resume);
+        return saveAndNotify(resume);
     }
 
     @NonNull
@@ -237,6 +324,38 @@ public class ResumeService {
                 .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
 
         resume.addCustomSection(customSection);
-        return resumeRepository.save(resume);
+        return saveAndNotify(resume);
+    }
+
+    /**
+     * Saves the resume and notifies caches of derived artifacts that its content changed.
+     * Flushes so that the returned resume carries its new version.
+     */
+    @NonNull
+    @SuppressWarnings("null") // Spring Data JPA guarantees @NonNull return from save()
+    private Resume saveAndNotify(@NonNull Resume resume) {
+        Resume saved = resumeRepository.saveAndFlush(resume);
+        eventPublisher.publishEvent(new ResumeChangedEvent(saved.getId()));
+        return saved;
+    }
+
+    private static void checkVersion(Resume resume, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(resume.getVersion())) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "Resume %d is at version %d, not %d", resume.getId(), resume.getVersion(), expectedVersion));
+        }
+    }
+
+    private static Resume initializeSections(Resume resume, Set<SectionType> sections) {
+        for (SectionType type : sections) {
+            Hibernate.initialize(switch (type) {
+                case WORK_EXPERIENCES -> resume.getWorkExperiences();
+                case EDUCATIONS -> resume.getEducations();
+                case SKILLS -> resume.getSkills();
+                case PROJECTS -> resume.getProjects();
+                case CUSTOM_SECTIONS -> resume.getCustomSections();
+            });
+        }
+        return resume;
     }
 }
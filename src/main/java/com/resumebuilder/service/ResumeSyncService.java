@@ -0,0 +1,170 @@
+package com.resumebuilder.service;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumebuilder.dto.ResumeEdit;
+import com.resumebuilder.dto.ResumeEditResult;
+import com.resumebuilder.dto.ResumeResponse;
+import com.resumebuilder.dto.ResumeSync;
+import com.resumebuilder.dto.ResumeSyncResult;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.ResumeSection;
+import com.resumebuilder.repository.ResumeRepository;
+
+/**
+ * Differential sync of a resume between a client copy and the stored one.
+ *
+ * The resume is split into parts: its own fields (with personal info and settings) and one part per
+ * section list. Each part has a version derived from its content; together with the versions of
+ * the section entries, which every write already bumps, they form the version vector a client
+ * keeps for its copy. A sync first merges the client's edits through {@link ResumeEditService},
+ * then sends back only the parts whose version differs from the client's, and within a changed
+ * section only the entries the client does not hold at their current version. A client that was
+ * offline therefore receives what changed rather than the whole resume, and the entries it edited
+ * come back with the ids and versions the merge assigned. Edits that overlap a concurrent change
+ * are not applied; what they touch comes back with the current content to rebase on.
+ */
+@Service
+@Transactional
+public class ResumeSyncService {
+
+    private static final Set<String> SECTION_FIELDS =
+            Set.of("educations", "workExperiences", "skills", "projects", "customSections");
+    private static final Set<String> RESUME_FIELDS = ResumeResponse.FIELDS.stream()
+            .filter(field -> !SECTION_FIELDS.contains(field))
+            .collect(Collectors.toUnmodifiableSet());
+
+    private enum Part {
+        RESUME("resume", null, null),
+        EDUCATIONS("educations", SectionType.EDUCATIONS, Resume::getEducations),
+        WORK_EXPERIENCES("workExperiences", SectionType.WORK_EXPERIENCES, Resume::getWorkExperiences),
+        SKILLS("skills", SectionType.SKILLS, Resume::getSkills),
+        PROJECTS("projects", SectionType.PROJECTS, Resume::getProjects),
+        CUSTOM_SECTIONS("customSections", SectionType.CUSTOM_SECTIONS, Resume::getCustomSections);
+
+        private final String name;
+        private final SectionType section;
+        private final Function<Resume, List<? extends ResumeSection>> entries;
+
+        Part(String name, SectionType section, Function<Resume, List<? extends ResumeSection>> entries) {
+            this.name = name;
+            this.section = section;
+            this.entries = entries;
+        }
+
+        Set<String> fields() {
+            return this == RESUME ? RESUME_FIELDS : Set.of(name);
+        }
+    }
+
+    private final ResumeRepository resumeRepository;
+    private final ResumeService resumeService;
+    private final ResumeEditService resumeEditService;
+    private final ObjectMapper objectMapper;
+
+    public ResumeSyncService(ResumeRepository resumeRepository,
+                             ResumeService resumeService,
+                             ResumeEditService resumeEditService,
+                             ObjectMapper objectMapper) {
+        this.resumeRepository = resumeRepository;
+        this.resumeService = resumeService;
+        this.resumeEditService = resumeEditService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Applies the client's edits, if any, and returns the parts that differ from the client's copy;
+     * empty when the resume does not exist
+     */
+    public Optional<ResumeSyncResult> sync(@NonNull Long resumeId, ResumeSync request) throws IOException {
+        Objects.requireNonNull(resumeId, "Resume ID must not be null");
+        if (!resumeRepository.existsById(resumeId)) {
+            return Optional.empty();
+        }
+        List<ResumeEditResult.Conflict> conflicts = List.of();
+        if (hasChanges(request.changes())) {
+            conflicts = resumeEditService.applyEdit(resumeId, request.changes()).conflicts();
+        }
+
+        // Loaded after the merge, so the section lists include what it wrote
+        Resume resume = resumeService.findByIdWithAllDetails(resumeId)
+                .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
+        Map<String, String> knownVersions = request.versions() != null ? request.versions() : Map.of();
+        Map<String, Map<Long, Long>> knownEntries = request.entries() != null ? request.entries() : Map.of();
+        Map<String, String> versions = new LinkedHashMap<>();
+        Set<String> changedFields = new HashSet<>();
+        Map<SectionType, Map<Long, Long>> heldEntries = new EnumMap<>(SectionType.class);
+        Map<String, List<Long>> removed = new LinkedHashMap<>();
+        for (Part part : Part.values()) {
+            String version = version(ResumeResponse.of(resume, part.fields()));
+            versions.put(part.name, version);
+            if (version.equals(knownVersions.get(part.name))) {
+                continue;
+            }
+            changedFields.addAll(part.fields());
+            Map<Long, Long> held = part.section != null ? knownEntries.get(part.name) : null;
+            if (held != null) {
+                heldEntries.put(part.section, held);
+                List<Long> gone = removedIds(part.entries.apply(resume), held);
+                if (!gone.isEmpty()) {
+                    removed.put(part.name, gone);
+                }
+            }
+        }
+        ResumeResponse changed = ResumeResponse.of(resume, changedFields, entry -> !isHeld(entry, heldEntries));
+        return Optional.of(new ResumeSyncResult(versions, changed, removed, conflicts));
+    }
+
+    /**
+     * Whether the client already holds the entry at its current version
+     */
+    private static boolean isHeld(ResumeSection entry, Map<SectionType, Map<Long, Long>> heldEntries) {
+        for (Map.Entry<SectionType, Map<Long, Long>> held : heldEntries.entrySet()) {
+            if (held.getKey().getEntityType().isInstance(entry)) {
+                return Objects.equals(held.getValue().get(entry.getId()), entry.getVersion());
+            }
+        }
+        return false;
+    }
+
+    private static List<Long> removedIds(List<? extends ResumeSection> entries, Map<Long, Long> held) {
+        Set<Long> ids = new HashSet<>();
+        for (ResumeSection entry : entries) {
+            ids.add(entry.getId());
+        }
+        return held.keySet().stream().filter(id -> !ids.contains(id)).sorted().toList();
+    }
+
+    private String version(ResumeResponse part) throws JsonProcessingException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(part));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static boolean hasChanges(ResumeEdit edit) {
+        return edit != null && ((edit.fields() != null && !edit.fields().isEmpty())
+                || (edit.sections() != null && !edit.sections().isEmpty()));
+    }
+}
@@ -0,0 +1,69 @@
+package com.resumebuilder.service;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.resumebuilder.model.CustomSection;
+import com.resumebuilder.model.Education;
+import com.resumebuilder.model.Project;
+import com.resumebuilder.model.ResumeSection;
+import com.resumebuilder.model.Skill;
+import com.resumebuilder.model.WorkExperience;
+
+/**
+ * The independently editable section lists of a resume, by their path segment in the REST API
+ */
+public enum SectionType {
+    WORK_EXPERIENCES("work-experiences", "workExperiences", WorkExperience.class),
+    EDUCATIONS("educations", "educations", Education.class),
+    SKILLS("skills", "skills", Skill.class),
+    PROJECTS("projects", "projects", Project.class),
+    CUSTOM_SECTIONS("custom-sections", "customSections", CustomSection.class);
+
+    private final String path;
+    private final String field;
+    private final Class<? extends ResumeSection> entityType;
+
+    SectionType(String path, String field, Class<? extends ResumeSection> entityType) {
+        this.path = path;
+        this.field = field;
+        this.entityType = entityType;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Name of the section in resume responses, e.g. {@code workExperiences}
+     */
+    public String getField() {
+        return field;
+    }
+
+    public Class<? extends ResumeSection> getEntityType() {
+        return entityType;
+    }
+
+    /**
+     * The sections among a set of response fields; all of them when fields is null
+     */
+    public static Set<SectionType> fromFields(Set<String> fields) {
+        Set<SectionType> sections = EnumSet.noneOf(SectionType.class);
+        for (SectionType type : values()) {
+            if (fields == null || fields.contains(type.field)) {
+                sections.add(type);
+            }
+        }
+        return sections;
+    }
+
+    public static SectionType fromPath(String path) {
+        for (SectionType type : values()) {
+            if (type.path.equalsIgnoreCase(path)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown resume section: " + path);
+    }
+}
@@ -0,0 +1,146 @@
+package com.resumebuilder.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.ResumeService;
+
+/**
+ * Exports many resumes into a single ZIP stream.
+ *
+ * Resumes are loaded and rendered on virtual threads, at most {@code parallelism} at a time, and each
+ * result is written to the ZIP as soon as it finishes. A new resume is only started after a finished one
+ * has been written, so no more than {@code parallelism} rendered documents are ever held in memory,
+ * however many resumes are requested. Renders bypass the export cache, so a large export does not
+ * evict the cached artifacts of the resumes users are working on.
+ */
+@Service
+public class BulkExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkExportService.class);
+
+    private final ResumeService resumeService;
+    private final ResumeExportService resumeExportService;
+    private final int parallelism;
+    private final int maxResumes;
+
+    public BulkExportService(ResumeService resumeService,
+                             ResumeExportService resumeExportService,
+                             @Value("${app.resume.bulk-export.parallelism:4}") int parallelism,
+                             @Value("${app.resume.bulk-export.max-resumes:500}") int maxResumes) {
+        this.resumeService = resumeService;
+        this.resumeExportService = resumeExportService;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxResumes = maxResumes;
+    }
+
+    public int getMaxResumes() {
+        return maxResumes;
+    }
+
+    /**
+     * Rendered files of one resume, ready to be written as ZIP entries
+     */
+    private record RenderedResume(Long resumeId, String baseName, List<byte[]> files) {
+    }
+
+    /**
+     * Writes every requested resume in every requested format to the stream as a ZIP archive.
+     * Unknown resume ids are skipped. The stream is not closed.
+     */
+    public void writeZip(List<Long> resumeIds, Set<ExportFormat> formats, OutputStream out) throws IOException {
+        if (resumeIds.size() > maxResumes) {
+            throw new IllegalArgumentException("At most " + maxResumes + " resumes can be exported at once");
+        }
+        List<ExportFormat> orderedFormats = formats.stream().sorted().toList();
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletionService<Optional<RenderedResume>> completions = new ExecutorCompletionService<>(workers);
+            Iterator<Long> pending = resumeIds.iterator();
+            int running = 0;
+
+            while (running < parallelism && pending.hasNext()) {
+                Long id = pending.next();
+                completions.submit(() -> render(id, orderedFormats));
+                running++;
+            }
+
+            while (running > 0) {
+                Optional<RenderedResume> rendered = take(completions);
+                running--;
+                if (rendered.isPresent()) {
+                    writeEntries(zip, rendered.get(), orderedFormats);
+                }
+                if (pending.hasNext()) {
+                    Long id = pending.next();
+                    completions.submit(() -> render(id, orderedFormats));
+                    running++;
+                }
+            }
+        }
+        zip.finish();
+    }
+
+    private Optional<RenderedResume> render(Long resumeId, List<ExportFormat> formats) throws IOException {
+        Optional<Resume> loaded = resumeService.findByIdWithAllDetails(resumeId);
+        if (loaded.isEmpty()) {
+            log.debug("Skipping missing resume {} in bulk export", resumeId);
+            return Optional.empty();
+        }
+
+        Resume resume = loaded.get();
+        List<byte[]> files = new ArrayList<>(formats.size());
+        for (ExportFormat format : formats) {
+            files.add(resumeExportService.render(resume, format));
+        }
+        return Optional.of(new RenderedResume(resumeId, entryBaseName(resume), files));
+    }
+
+    private static Optional<RenderedResume> take(CompletionService<Optional<RenderedResume>> completions)
+            throws IOException {
+        try {
+            return completions.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Bulk export interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Bulk export failed", e.getCause());
+        }
+    }
+
+    private static void writeEntries(ZipOutputStream zip, RenderedResume rendered, List<ExportFormat> formats)
+            throws IOException {
+        for (int i = 0; i < formats.size(); i++) {
+            zip.putNextEntry(new ZipEntry(rendered.baseName() + "." + formats.get(i).getExtension()));
+            zip.write(rendered.files().get(i));
+            zip.closeEntry();
+        }
+        zip.flush();
+    }
+
+    // The id prefix keeps names unique when several resumes share a title
+    private static String entryBaseName(Resume resume) {
+        String title = resume.getTitle() != null ? resume.getTitle() : "resume";
+        String safeTitle = title.replaceAll("[^A-Za-z0-9._-]+", "_");
+        return resume.getId() + "-" + safeTitle;
+    }
+}
@@ -0,0 +1,60 @@
+package com.resumebuilder.service.export;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.apache.pdfbox.pdmodel.font.PDFont;
+
+/**
+ * Regular, bold, italic and bold-italic font handles bound to one PDDocument, paired with their cached metrics.
+ * Obtained from {@link PdfFontRegistry#forDocument}.
+ */
+public final class DocumentFonts {
+
+    private final PDFont regular;
+    private final PDFont bold;
+    private final PDFont italic;
+    private final PDFont boldItalic;
+    private final Map<PDFont, FontMetrics> metrics = new IdentityHashMap<>();
+
+    DocumentFonts(PDFont regular, FontMetrics regularMetrics,
+                  PDFont bold, FontMetrics boldMetrics,
+                  PDFont italic, FontMetrics italicMetrics,
+                  PDFont boldItalic, FontMetrics boldItalicMetrics) {
+        this.regular = regular;
+        this.bold = bold;
+        this.italic = italic;
+        this.boldItalic = boldItalic;
+        metrics.put(regular, regularMetrics);
+        metrics.put(bold, boldMetrics);
+        metrics.put(italic, italicMetrics);
+        metrics.put(boldItalic, boldItalicMetrics);
+    }
+
+    public PDFont regular() {
+        return regular;
+    }
+
+    public PDFont bold() {
+        return bold;
+    }
+
+    public PDFont italic() {
+        return italic;
+    }
+
+    public PDFont boldItalic() {
+        return boldItalic;
+    }
+
+    /**
+     * Metrics of one of this document's fonts
+     */
+    public FontMetrics metrics(PDFont font) {
+        FontMetrics fontMetrics = metrics.get(font);
+        if (fontMetrics == null) {
+            throw new IllegalArgumentException("Font does not belong to this document: " + font.getName());
+        }
+        return fontMetrics;
+    }
+}
@@ -6,6 +6,7 @@ import org.apache.poi.xwpf.usermodel.*;
 import org.springframework.stereotype.Service;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -21,6 +22,16 @@ public class DocxExportService {
     private static final int FONT_SIZE_NORMAL = 11;
 
     public byte[] exportToDocx(Resume resume) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        exportToDocx(resume, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Renders the resume and writes the document straight to the given stream.
+     * The stream is not closed.
+     */
+    public void exportToDocx(Resume resume, OutputStream out) throws IOException {
         try (XWPFDocument document = new XWPFDocument()) {
             
             // Personal Information
@@ -78,9 +89,7 @@ public class DocxExportService {
                 }
             }
 
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            document.write(baos);
-            return baos.toByteArray();
+            document.write(out);
         }
     }
 
@@ -0,0 +1,201 @@
+package com.resumebuilder.service.export;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.ResumeChangedEvent;
+
+/**
+ * Content-addressed cache for rendered PDF and DOCX exports.
+ *
+ * Entries are keyed by {@link ResumeContentHash} plus the output format, so an unchanged
+ * resume is rendered at most once. The memory tier is an LRU bounded by total byte size;
+ * the optional disk tier keeps artifacts under {@code app.resume.export-directory}/cache
+ * across restarts. Both tiers are dropped for a resume whenever {@link ResumeChangedEvent} fires.
+ */
+@Service
+public class ExportCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportCacheService.class);
+
+    /**
+     * Renders an export when the cache has no entry for it
+     */
+    @FunctionalInterface
+    public interface Renderer {
+        byte[] render() throws IOException;
+    }
+
+    /**
+     * Identifies one rendered artifact of one resume
+     */
+    public record ExportKey(Long resumeId, String contentHash, ExportFormat format) {
+
+        /**
+         * Strong HTTP entity tag for this artifact
+         */
+        public String etag() {
+            return "\"" + contentHash + "-" + format.getExtension() + "\"";
+        }
+
+        private String fileName() {
+            return resumeId + "-" + contentHash + "." + format.getExtension();
+        }
+    }
+
+    private final long maxMemoryBytes;
+    private final Path diskDirectory;
+
+    // Access-ordered so iteration starts at the least recently used entry
+    private final LinkedHashMap<ExportKey, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Set<ExportKey>> keysByResume = new HashMap<>();
+    private long memoryBytes;
+
+    public ExportCacheService(
+            @Value("${app.resume.export-cache.max-memory-bytes:67108864}") long maxMemoryBytes,
+            @Value("${app.resume.export-cache.disk-enabled:false}") boolean diskEnabled,
+            @Value("${app.resume.export-directory:./exports}") String exportDirectory) {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.diskDirectory = diskEnabled ? Paths.get(exportDirectory, "cache") : null;
+    }
+
+    public ExportKey keyFor(Resume resume, ExportFormat format) {
+        return new ExportKey(resume.getId(), ResumeContentHash.of(resume), format);
+    }
+
+    /**
+     * Returns the cached artifact for the key, rendering and storing it on a miss.
+     * Rendering happens outside the cache lock, so concurrent misses for the same key may both render.
+     */
+    public byte[] getOrRender(ExportKey key, Renderer renderer) throws IOException {
+        Objects.requireNonNull(key, "Export key must not be null");
+
+        synchronized (this) {
+            byte[] cached = memory.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        byte[] bytes = readFromDisk(key);
+        if (bytes == null) {
+            bytes = renderer.render();
+            writeToDisk(key, bytes);
+        }
+
+        putInMemory(key, bytes);
+        return bytes;
+    }
+
+    /**
+     * Drops every cached artifact of the given resume from both tiers
+     */
+    public void invalidate(Long resumeId) {
+        if (resumeId == null) return;
+
+        synchronized (this) {
+            Set<ExportKey> keys = keysByResume.remove(resumeId);
+            if (keys != null) {
+                for (ExportKey key : keys) {
+                    byte[] removed = memory.remove(key);
+                    if (removed != null) {
+                        memoryBytes -= removed.length;
+                    }
+                }
+            }
+        }
+
+        deleteFromDisk(resumeId);
+    }
+
+    @EventListener
+    public void onResumeChanged(ResumeChangedEvent event) {
+        invalidate(event.resumeId());
+    }
+
+    private synchronized void putInMemory(ExportKey key, byte[] bytes) {
+        if (bytes.length > maxMemoryBytes) {
+            return;
+        }
+
+        byte[] previous = memory.put(key, bytes);
+        if (previous != null) {
+            memoryBytes -= previous.length;
+        }
+        memoryBytes += bytes.length;
+        if (key.resumeId() != null) {
+            keysByResume.computeIfAbsent(key.resumeId(), id -> new HashSet<>()).add(key);
+        }
+
+        Iterator<Map.Entry<ExportKey, byte[]>> eldest = memory.entrySet().iterator();
+        while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+            Map.Entry<ExportKey, byte[]> entry = eldest.next();
+            memoryBytes -= entry.getValue().length;
+            eldest.remove();
+            Set<ExportKey> keys = keysByResume.get(entry.getKey().resumeId());
+            if (keys != null) {
+                keys.remove(entry.getKey());
+                if (keys.isEmpty()) {
+                    keysByResume.remove(entry.getKey().resumeId());
+                }
+            }
+        }
+    }
+
+    private byte[] readFromDisk(ExportKey key) {
+        if (diskDirectory == null || key.resumeId() == null) return null;
+
+        Path file = diskDirectory.resolve(key.fileName());
+        try {
+            return Files.isRegularFile(file) ? Files.readAllBytes(file) : null;
+        } catch (IOException e) {
+            log.warn("Failed to read cached export {}", file, e);
+            return null;
+        }
+    }
+
+    private void writeToDisk(ExportKey key, byte[] bytes) {
+        if (diskDirectory == null || key.resumeId() == null) return;
+
+        try {
+            Files.createDirectories(diskDirectory);
+            Path temp = Files.createTempFile(diskDirectory, "export", ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, diskDirectory.resolve(key.fileName()),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write cached export {}", key.fileName(), e);
+        }
+    }
+
+    private void deleteFromDisk(Long resumeId) {
+        if (diskDirectory == null || !Files.isDirectory(diskDirectory)) return;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(diskDirectory, resumeId + "-*")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to evict cached exports for resume {}", resumeId, e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.resumebuilder.service.export;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Output formats supported by the export services
+ */
+public enum ExportFormat {
+    PDF("pdf", MediaType.APPLICATION_PDF),
+    DOCX("docx", MediaType.APPLICATION_OCTET_STREAM),
+    TXT("txt", MediaType.TEXT_PLAIN);
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static ExportFormat fromExtension(String extension) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(extension)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + extension);
+    }
+}
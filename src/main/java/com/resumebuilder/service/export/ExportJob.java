@@ -0,0 +1,93 @@
+package com.resumebuilder.service.export;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A single asynchronous export request tracked by {@link ExportJobService}
+ */
+public class ExportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long resumeId;
+    private final Long userId;
+    private final ExportFormat format;
+    private final Instant submittedAt = Instant.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant completedAt;
+    private volatile byte[] result;
+    private volatile String error;
+
+    ExportJob(Long resumeId, Long userId, ExportFormat format) {
+        this.resumeId = resumeId;
+        this.userId = userId;
+        this.format = format;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public byte[] getResult() {
+        return result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isDone() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    void markRunning() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    void complete(byte[] bytes) {
+        result = bytes;
+        completedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        completedAt = Instant.now();
+        status = Status.FAILED;
+    }
+}
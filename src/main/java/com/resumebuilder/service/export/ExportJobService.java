@@ -0,0 +1,204 @@
+package com.resumebuilder.service.export;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.ResumeService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs PDF/DOCX exports off the request thread.
+ *
+ * Jobs wait in one FIFO queue per user and are dispatched round-robin across users, so a single
+ * user's burst cannot starve everyone else. At most {@code max-in-flight} jobs render at a time,
+ * each on its own virtual thread. Submissions beyond the global or per-user queue limit are
+ * rejected with {@link RejectedExecutionException} so callers can apply backpressure.
+ * Finished jobs are kept for {@code result-ttl-minutes} and then discarded.
+ */
+@Service
+public class ExportJobService implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportJobService.class);
+
+    private final ResumeService resumeService;
+    private final ResumeExportService resumeExportService;
+
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final int maxQueuedPerUser;
+    private final Duration resultTtl;
+
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    // Guarded by this: per-user FIFO queues plus the round-robin order of users with queued work
+    private final Map<Long, ArrayDeque<ExportJob>> queuesByUser = new HashMap<>();
+    private final ArrayDeque<Long> userRotation = new ArrayDeque<>();
+    private int queued;
+    private int inFlight;
+
+    private final Timer queueWaitTimer;
+    private final Timer renderTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public ExportJobService(ResumeService resumeService,
+                            ResumeExportService resumeExportService,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.resume.export-jobs.max-in-flight:4}") int maxInFlight,
+                            @Value("${app.resume.export-jobs.max-queued:200}") int maxQueued,
+                            @Value("${app.resume.export-jobs.max-queued-per-user:10}") int maxQueuedPerUser,
+                            @Value("${app.resume.export-jobs.result-ttl-minutes:10}") long resultTtlMinutes) {
+        this.resumeService = resumeService;
+        this.resumeExportService = resumeExportService;
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+        this.maxQueuedPerUser = maxQueuedPerUser;
+        this.resultTtl = Duration.ofMinutes(resultTtlMinutes);
+
+        this.queueWaitTimer = Timer.builder("resume.export.jobs.queue-wait")
+                .description("Time from submission until rendering starts")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.renderTimer = Timer.builder("resume.export.jobs.render")
+                .description("Time spent loading and rendering an export")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("resume.export.jobs.rejected")
+                .description("Submissions refused because a queue limit was reached")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("resume.export.jobs.failed")
+                .description("Jobs that ended with an error instead of a file")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers the queue gauges; called once the service is fully constructed
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry meterRegistry) {
+        Gauge.builder("resume.export.jobs.queued", this, ExportJobService::queuedCount)
+                .description("Export jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("resume.export.jobs.in-flight", this, ExportJobService::inFlightCount)
+                .description("Export jobs currently rendering")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues an export of the given resume
+     *
+     * @throws IllegalArgumentException if the resume does not exist
+     * @throws RejectedExecutionException if the global or per-user queue is full
+     */
+    @NonNull
+    public ExportJob submit(@NonNull Long resumeId, @NonNull ExportFormat format) {
+        Resume resume = resumeService.findById(Objects.requireNonNull(resumeId, "Resume ID must not be null"))
+                .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
+        Long userId = resume.getUser().getId();
+
+        purgeExpired();
+
+        ExportJob job = new ExportJob(resumeId, userId, Objects.requireNonNull(format, "Format must not be null"));
+        synchronized (this) {
+            ArrayDeque<ExportJob> userQueue = queuesByUser.get(userId);
+            if (queued >= maxQueued || (userQueue != null && userQueue.size() >= maxQueuedPerUser)) {
+                rejectedCounter.increment();
+                throw new RejectedExecutionException("Export queue is full");
+            }
+            if (userQueue == null) {
+                userQueue = new ArrayDeque<>();
+                queuesByUser.put(userId, userQueue);
+                userRotation.addLast(userId);
+            }
+            userQueue.addLast(job);
+            queued++;
+            jobs.put(job.getId(), job);
+            dispatch();
+        }
+        return job;
+    }
+
+    public Optional<ExportJob> findJob(String jobId) {
+        purgeExpired();
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public synchronized int queuedCount() {
+        return queued;
+    }
+
+    public synchronized int inFlightCount() {
+        return inFlight;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // Caller must hold the lock
+    private void dispatch() {
+        while (inFlight < maxInFlight && !userRotation.isEmpty()) {
+            Long userId = userRotation.pollFirst();
+            ArrayDeque<ExportJob> userQueue = queuesByUser.get(userId);
+            ExportJob job = userQueue.pollFirst();
+            if (userQueue.isEmpty()) {
+                queuesByUser.remove(userId);
+            } else {
+                userRotation.addLast(userId);
+            }
+            queued--;
+            inFlight++;
+            workers.execute(() -> run(job));
+        }
+    }
+
+    private void run(ExportJob job) {
+        job.markRunning();
+        queueWaitTimer.record(Duration.between(job.getSubmittedAt(), job.getStartedAt()));
+        Timer.Sample sample = Timer.start();
+        try {
+            Resume resume = resumeService.findByIdWithAllDetails(job.getResumeId())
+                    .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
+            job.complete(resumeExportService.export(resume, job.getFormat()));
+        } catch (Exception e) {
+            log.warn("Export job {} for resume {} failed", job.getId(), job.getResumeId(), e);
+            failedCounter.increment();
+            job.fail(e.getMessage());
+        } finally {
+            sample.stop(renderTimer);
+            synchronized (this) {
+                inFlight--;
+                dispatch();
+            }
+        }
+    }
+
+    private void purgeExpired() {
+        Instant cutoff = Instant.now().minus(resultTtl);
+        jobs.values().removeIf(job -> job.isDone() && job.getCompletedAt().isBefore(cutoff));
+    }
+}
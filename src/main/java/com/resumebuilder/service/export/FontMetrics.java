@@ -0,0 +1,96 @@
+package com.resumebuilder.service.export;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.pdfbox.pdmodel.font.PDFont;
+
+/**
+ * Per-font cache of glyph advance widths, in PDF glyph space units (1/1000 of the font size).
+ *
+ * Widths are stored per code point in lazily allocated pages of 256 floats, so measuring a string
+ * is a sequence of array reads instead of a {@link PDFont#getStringWidth} call that encodes and
+ * looks up every glyph again. Instances are shared across documents for fonts with identical metrics
+ * and tolerate concurrent use: cache hits are lock-free, and misses are serialized because PDFont's
+ * own width cache is not thread-safe. Racing threads at worst compute and store the same value twice.
+ */
+public final class FontMetrics {
+
+    /**
+     * Supplies the advance width of one code point in glyph space units
+     */
+    @FunctionalInterface
+    public interface WidthSource {
+        float advance(int codePoint) throws IOException;
+    }
+
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_COUNT = (Character.MAX_CODE_POINT >> PAGE_BITS) + 1;
+
+    private static final Map<String, FontMetrics> SHARED = new ConcurrentHashMap<>();
+
+    private final WidthSource source;
+    // Pages are published filled with NaN (not yet measured); a width slot is then written once per
+    // racing thread, and a stale NaN read only means measuring again
+    private final AtomicReferenceArray<float[]> pages = new AtomicReferenceArray<>(PAGE_COUNT);
+
+    private FontMetrics(WidthSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Returns the shared metrics for a font, keyed by its PostScript name.
+     * Only suitable for fonts whose name identifies their metrics, such as the standard 14 fonts.
+     */
+    public static FontMetrics of(PDFont font) {
+        return SHARED.computeIfAbsent(font.getName(),
+                name -> new FontMetrics(codePoint -> font.getStringWidth(new String(Character.toChars(codePoint)))));
+    }
+
+    /**
+     * Returns unshared metrics backed by the given source, e.g. widths read once from an embedded font file
+     */
+    public static FontMetrics of(WidthSource source) {
+        return new FontMetrics(source);
+    }
+
+    public float advance(int codePoint) throws IOException {
+        int index = codePoint >>> PAGE_BITS;
+        float[] page = pages.get(index);
+        if (page == null) {
+            float[] filled = new float[PAGE_SIZE];
+            Arrays.fill(filled, Float.NaN);
+            page = pages.compareAndSet(index, null, filled) ? filled : pages.get(index);
+        }
+        float width = page[codePoint & (PAGE_SIZE - 1)];
+        if (Float.isNaN(width)) {
+            synchronized (this) {
+                width = source.advance(codePoint);
+            }
+            page[codePoint & (PAGE_SIZE - 1)] = width;
+        }
+        return width;
+    }
+
+    /**
+     * Width of {@code text[start, end)} in glyph space units
+     */
+    public float width(CharSequence text, int start, int end) throws IOException {
+        float total = 0;
+        int i = start;
+        while (i < end) {
+            int codePoint = Character.codePointAt(text, i);
+            total += advance(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return total;
+    }
+
+    public float width(CharSequence text) throws IOException {
+        return width(text, 0, text.length());
+    }
+}
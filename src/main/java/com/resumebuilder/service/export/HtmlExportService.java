@@ -0,0 +1,157 @@
+package com.resumebuilder.service.export;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.resumebuilder.dto.SectionListItem;
+import com.resumebuilder.model.CustomSection;
+import com.resumebuilder.model.PersonalInfo;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.ResumeSection;
+import com.resumebuilder.model.Skill;
+
+/**
+ * Service for rendering resumes as HTML. The section fragments are shared by the public page of a
+ * shared resume and the desktop editor's live preview.
+ */
+@Service
+public class HtmlExportService {
+
+    public static final String STYLESHEET =
+            "body { font-family: Arial, sans-serif; margin: 20px; }"
+            + "h1 { color: #2c3e50; border-bottom: 2px solid #3498db; }"
+            + "h2 { color: #34495e; margin-top: 20px; }"
+            + ".contact { color: #7f8c8d; }";
+
+    /**
+     * A standalone HTML page with every section of the resume. All sections must be initialized.
+     */
+    public String exportToHtml(Resume resume) {
+        PersonalInfo pi = resume.getPersonalInfo();
+        String firstName = pi != null ? nullToEmpty(pi.getFirstName()) : "";
+        String lastName = pi != null ? nullToEmpty(pi.getLastName()) : "";
+
+        StringBuilder html = new StringBuilder("<!DOCTYPE html><html lang='en'><head><meta charset='utf-8'>");
+        html.append("<meta name='viewport' content='width=device-width, initial-scale=1'>");
+        html.append("<title>").append(escape((firstName + " " + lastName).isBlank()
+                ? resume.getTitle() : firstName + " " + lastName)).append("</title>");
+        html.append("<style>").append(STYLESHEET).append("</style></head><body>");
+
+        if (pi != null) {
+            html.append(header(firstName, lastName, nullToEmpty(pi.getEmail()), nullToEmpty(pi.getPhone())));
+        }
+        html.append(summary(nullToEmpty(resume.getProfessionalSummary())));
+        html.append(workExperience(items(resume.getWorkExperiences())));
+        html.append(education(items(resume.getEducations())));
+        html.append(skills(items(resume.getSkills().stream().filter(Skill::isVisible).toList())));
+        html.append(projects(items(resume.getProjects())));
+        for (CustomSection section : resume.getCustomSections()) {
+            if (section.isVisible()) {
+                html.append(customSection(section.getSectionTitle(), section.getContent()));
+            }
+        }
+        return html.append("</body></html>").toString();
+    }
+
+    public String header(String firstName, String lastName, String email, String phone) {
+        StringBuilder html = new StringBuilder();
+        if (!firstName.isEmpty() || !lastName.isEmpty()) {
+            html.append("<h1>").append(escape(firstName)).append(" ").append(escape(lastName)).append("</h1>");
+        }
+        if (!email.isEmpty() || !phone.isEmpty()) {
+            html.append("<p class='contact'>").append(escape(email));
+            if (!phone.isEmpty()) {
+                html.append(" | ").append(escape(phone));
+            }
+            html.append("</p>");
+        }
+        return html.toString();
+    }
+
+    public String summary(String summary) {
+        if (summary.isEmpty()) {
+            return "";
+        }
+        return "<h2>Professional Summary</h2><p>" + multiline(summary) + "</p>";
+    }
+
+    public String workExperience(List<SectionListItem> experiences) {
+        if (experiences.isEmpty()) {
+            return "";
+        }
+        StringBuilder html = new StringBuilder("<h2>Work Experience</h2>");
+        for (SectionListItem we : experiences) {
+            html.append("<h3>").append(escape(we.title())).append(" - ").append(escape(we.subtitle())).append("</h3>");
+            html.append("<p><i>").append(escape(we.detail())).append("</i></p>");
+        }
+        return html.toString();
+    }
+
+    public String education(List<SectionListItem> educations) {
+        return titledEntries("Education", educations);
+    }
+
+    public String skills(List<SectionListItem> skills) {
+        if (skills.isEmpty()) {
+            return "";
+        }
+        StringBuilder html = new StringBuilder("<h2>Skills</h2><p>");
+        for (int i = 0; i < skills.size(); i++) {
+            if (i > 0) html.append(", ");
+            html.append(escape(skills.get(i).title()));
+        }
+        return html.append("</p>").toString();
+    }
+
+    public String projects(List<SectionListItem> projects) {
+        return titledEntries("Projects", projects);
+    }
+
+    public String customSection(String title, String content) {
+        return "<h2>" + escape(title) + "</h2><p>" + multiline(content) + "</p>";
+    }
+
+    public static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&#39;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String titledEntries(String heading, List<SectionListItem> entries) {
+        if (entries.isEmpty()) {
+            return "";
+        }
+        StringBuilder html = new StringBuilder("<h2>").append(heading).append("</h2>");
+        for (SectionListItem entry : entries) {
+            html.append("<h3>").append(escape(entry.title())).append("</h3>");
+            html.append("<p>").append(escape(entry.subtitle())).append("</p>");
+        }
+        return html.toString();
+    }
+
+    private static String multiline(String text) {
+        return escape(text).replace("\n", "<br>");
+    }
+
+    private static List<SectionListItem> items(List<? extends ResumeSection> entries) {
+        return entries.stream().map(SectionListItem::of).toList();
+    }
+
+    private static String nullToEmpty(String text) {
+        return text != null ? text : "";
+    }
+}
@@ -0,0 +1,67 @@
+package com.resumebuilder.service.export;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Greedy word wrapping in linear time.
+ *
+ * Each word is measured exactly once through {@link FontMetrics}, and a line's width is kept as a
+ * running sum rather than re-measuring the growing line for every word. Lines are returned as
+ * substrings of the input, so no intermediate builders are allocated.
+ */
+public final class LineBreaker {
+
+    private LineBreaker() {
+    }
+
+    /**
+     * Splits text on single spaces into lines no wider than {@code maxWidth} points.
+     * A word wider than the line is placed on a line of its own.
+     */
+    public static List<String> wrap(String text, FontMetrics metrics, float fontSize, float maxWidth)
+            throws IOException {
+        List<String> lines = new ArrayList<>();
+        int length = text.length();
+        if (length == 0) {
+            return lines;
+        }
+
+        float maxUnits = maxWidth * 1000 / fontSize;
+        float spaceUnits = metrics.advance(' ');
+
+        int lineStart = 0;
+        int lineEnd = 0;
+        float lineUnits = 0;
+        int wordStart = 0;
+
+        while (wordStart <= length) {
+            int wordEnd = text.indexOf(' ', wordStart);
+            if (wordEnd < 0) {
+                wordEnd = length;
+            }
+            float wordUnits = metrics.width(text, wordStart, wordEnd);
+
+            if (lineEnd == lineStart) {
+                lineStart = wordStart;
+                lineEnd = wordEnd;
+                lineUnits = wordUnits;
+            } else if (lineUnits + spaceUnits + wordUnits > maxUnits) {
+                lines.add(text.substring(lineStart, lineEnd));
+                lineStart = wordStart;
+                lineEnd = wordEnd;
+                lineUnits = wordUnits;
+            } else {
+                lineEnd = wordEnd;
+                lineUnits += spaceUnits + wordUnits;
+            }
+            wordStart = wordEnd + 1;
+        }
+
+        if (lineEnd > lineStart) {
+            lines.add(text.substring(lineStart, lineEnd));
+        }
+        return lines;
+    }
+}
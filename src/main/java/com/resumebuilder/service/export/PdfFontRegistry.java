@@ -0,0 +1,240 @@
+package com.resumebuilder.service.export;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.fontbox.ttf.CmapLookup;
+import org.apache.fontbox.ttf.NamingTable;
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts.FontName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Application-wide registry of the fonts available to PDF rendering, resolved by
+ * {@code ResumeSettings.fontFamily}.
+ *
+ * The standard 14 families are always available (Arial and other common names map to their
+ * metric-compatible standard font). TrueType files in {@code app.resume.font-directory} are parsed and
+ * measured once at startup; each document then gets a subset-embedded handle over the shared parsed
+ * font, which saves parsing the file again for every export. FontBox 3 serializes the table and glyph
+ * reads of a TrueTypeFont, so documents on different threads can subset the same instance.
+ */
+@Component
+public class PdfFontRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfFontRegistry.class);
+
+    private record StandardFamily(FontName regular, FontName bold, FontName italic, FontName boldItalic) {
+    }
+
+    private record EmbeddedFace(TrueTypeFont font, FontMetrics metrics) {
+    }
+
+    private static final class EmbeddedFamily {
+        private EmbeddedFace regular;
+        private EmbeddedFace bold;
+        private EmbeddedFace italic;
+        private EmbeddedFace boldItalic;
+    }
+
+    private static final StandardFamily HELVETICA = new StandardFamily(
+            FontName.HELVETICA, FontName.HELVETICA_BOLD, FontName.HELVETICA_OBLIQUE,
+            FontName.HELVETICA_BOLD_OBLIQUE);
+    private static final StandardFamily TIMES = new StandardFamily(
+            FontName.TIMES_ROMAN, FontName.TIMES_BOLD, FontName.TIMES_ITALIC, FontName.TIMES_BOLD_ITALIC);
+    private static final StandardFamily COURIER = new StandardFamily(
+            FontName.COURIER, FontName.COURIER_BOLD, FontName.COURIER_OBLIQUE,
+            FontName.COURIER_BOLD_OBLIQUE);
+
+    private final Path fontDirectory;
+    private final Map<String, StandardFamily> standardFamilies = new HashMap<>();
+    private final Map<String, EmbeddedFamily> embeddedFamilies = new HashMap<>();
+    private final Map<FontName, FontMetrics> standardMetrics = new HashMap<>();
+    private final List<TrueTypeFont> parsedFonts = new ArrayList<>();
+
+    public PdfFontRegistry(@Value("${app.resume.font-directory:./fonts}") String fontDirectory) {
+        this.fontDirectory = Paths.get(fontDirectory);
+
+        for (String alias : List.of("helvetica", "arial", "sans-serif", "calibri", "verdana")) {
+            standardFamilies.put(alias, HELVETICA);
+        }
+        for (String alias : List.of("times", "times new roman", "times-roman", "serif", "georgia", "garamond")) {
+            standardFamilies.put(alias, TIMES);
+        }
+        for (String alias : List.of("courier", "courier new", "monospace")) {
+            standardFamilies.put(alias, COURIER);
+        }
+    }
+
+    @PostConstruct
+    public void load() {
+        for (StandardFamily family : List.of(HELVETICA, TIMES, COURIER)) {
+            preloadStandard(family.regular());
+            preloadStandard(family.bold());
+            preloadStandard(family.italic());
+            preloadStandard(family.boldItalic());
+        }
+
+        if (!Files.isDirectory(fontDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(fontDirectory, "*.{ttf,TTF}")) {
+            for (Path file : files) {
+                try {
+                    registerTrueType(file);
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable font {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to scan font directory {}", fontDirectory, e);
+        }
+        log.info("Registered {} embedded font families from {}", embeddedFamilies.size(), fontDirectory);
+    }
+
+    /**
+     * Creates this document's font handles for the requested family, falling back to Helvetica
+     * for unknown or empty names
+     */
+    public DocumentFonts forDocument(PDDocument document, String fontFamily) throws IOException {
+        String key = fontFamily != null ? fontFamily.trim().toLowerCase(Locale.ROOT) : "";
+
+        EmbeddedFamily embedded = embeddedFamilies.get(key);
+        if (embedded != null) {
+            EmbeddedFace regular = embedded.regular;
+            EmbeddedFace bold = embedded.bold != null ? embedded.bold : regular;
+            EmbeddedFace italic = embedded.italic != null ? embedded.italic : regular;
+            // Without a bold-italic face, bold carries more of the emphasis than italic
+            EmbeddedFace boldItalic = embedded.boldItalic != null ? embedded.boldItalic : bold;
+            PDFont regularFont = loadEmbedded(document, regular);
+            PDFont boldFont = bold == regular ? regularFont : loadEmbedded(document, bold);
+            PDFont italicFont = italic == regular ? regularFont : loadEmbedded(document, italic);
+            PDFont boldItalicFont = boldItalic == bold ? boldFont
+                    : boldItalic == regular ? regularFont : loadEmbedded(document, boldItalic);
+            return new DocumentFonts(regularFont, regular.metrics(), boldFont, bold.metrics(),
+                    italicFont, italic.metrics(), boldItalicFont, boldItalic.metrics());
+        }
+
+        StandardFamily family = standardFamilies.getOrDefault(key, HELVETICA);
+        // Standard 14 fonts are not embedded and their AFM data is cached by PDFBox,
+        // so a per-document instance is only a small font dictionary
+        PDFont regularFont = new PDType1Font(family.regular());
+        PDFont boldFont = new PDType1Font(family.bold());
+        PDFont italicFont = new PDType1Font(family.italic());
+        PDFont boldItalicFont = new PDType1Font(family.boldItalic());
+        return new DocumentFonts(regularFont, standardMetrics.get(family.regular()),
+                boldFont, standardMetrics.get(family.bold()),
+                italicFont, standardMetrics.get(family.italic()),
+                boldItalicFont, standardMetrics.get(family.boldItalic()));
+    }
+
+    private void preloadStandard(FontName name) {
+        PDType1Font font = new PDType1Font(name);
+        FontMetrics metrics = FontMetrics.of(font);
+        // Warm the printable WinAnsi range so typical resumes never miss the cache
+        for (int codePoint = 0x20; codePoint <= 0xFF; codePoint++) {
+            try {
+                metrics.advance(codePoint);
+            } catch (IOException | IllegalArgumentException e) {
+                // Not encodable in this font; measured (and rejected) on first real use
+            }
+        }
+        standardMetrics.put(name, metrics);
+    }
+
+    @PreDestroy
+    public void close() {
+        for (TrueTypeFont font : parsedFonts) {
+            try {
+                font.close();
+            } catch (IOException e) {
+                log.debug("Failed to close a registered font", e);
+            }
+        }
+        parsedFonts.clear();
+    }
+
+    private void registerTrueType(Path file) throws IOException {
+        byte[] data = Files.readAllBytes(file);
+        String family;
+        String subFamily;
+        Map<Integer, Float> widths = new HashMap<>();
+        float notdefWidth;
+
+        // Kept open for the registry's lifetime; closed by close()
+        TrueTypeFont ttf = new TTFParser().parse(new RandomAccessReadBuffer(data));
+        try {
+            NamingTable naming = ttf.getNaming();
+            family = naming != null && naming.getFontFamily() != null
+                    ? naming.getFontFamily()
+                    : file.getFileName().toString().replaceFirst("\\.[^.]+$", "");
+            subFamily = naming != null && naming.getFontSubFamily() != null ? naming.getFontSubFamily() : "Regular";
+
+            float scale = 1000f / ttf.getUnitsPerEm();
+            notdefWidth = ttf.getAdvanceWidth(0) * scale;
+            CmapLookup cmap = ttf.getUnicodeCmapLookup(false);
+            if (cmap != null) {
+                for (int gid = 0; gid < ttf.getNumberOfGlyphs(); gid++) {
+                    List<Integer> codePoints = cmap.getCharCodes(gid);
+                    if (codePoints == null) continue;
+                    float width = ttf.getAdvanceWidth(gid) * scale;
+                    for (Integer codePoint : codePoints) {
+                        widths.put(codePoint, width);
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            ttf.close();
+            throw e;
+        }
+        parsedFonts.add(ttf);
+
+        Map<Integer, Float> table = Map.copyOf(widths);
+        float fallback = notdefWidth;
+        EmbeddedFace face = new EmbeddedFace(ttf, FontMetrics.of(codePoint -> table.getOrDefault(codePoint, fallback)));
+        EmbeddedFamily entry = embeddedFamilies.computeIfAbsent(family.toLowerCase(Locale.ROOT), k -> new EmbeddedFamily());
+
+        String style = subFamily.toLowerCase(Locale.ROOT);
+        boolean isBold = style.contains("bold");
+        boolean isItalic = style.contains("italic") || style.contains("oblique");
+        if (isBold && isItalic) {
+            entry.boldItalic = face;
+        } else if (isBold) {
+            entry.bold = face;
+        } else if (isItalic) {
+            entry.italic = face;
+        } else {
+            entry.regular = face;
+        }
+
+        if (entry.regular == null) {
+            // Keep the family usable even if only a styled face was found so far
+            entry.regular = face;
+        }
+        log.debug("Registered font {} ({}) from {}", family, subFamily, file);
+    }
+
+    private static PDFont loadEmbedded(PDDocument document, EmbeddedFace face) throws IOException {
+        return PDType0Font.load(document, face.font(), true);
+    }
+}
@@ -0,0 +1,187 @@
+package com.resumebuilder.service.export;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import com.resumebuilder.model.CustomSection;
+import com.resumebuilder.model.Education;
+import com.resumebuilder.model.PersonalInfo;
+import com.resumebuilder.model.Project;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.ResumeSettings;
+import com.resumebuilder.model.Skill;
+import com.resumebuilder.model.WorkExperience;
+
+/**
+ * Computes a SHA-256 digest over everything that influences a rendered resume:
+ * the section content, the template name and the {@link ResumeSettings}.
+ * Identifiers, timestamps and sharing state are deliberately left out so that two
+ * resumes with identical content produce the same hash.
+ */
+public final class ResumeContentHash {
+
+    private final MessageDigest digest;
+
+    private ResumeContentHash() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Returns the hex-encoded content hash of the given resume. All sections must be initialized.
+     */
+    public static String of(Resume resume) {
+        ResumeContentHash hash = new ResumeContentHash();
+        hash.resume(resume);
+        return HexFormat.of().formatHex(hash.digest.digest());
+    }
+
+    private void resume(Resume resume) {
+        field(resume.getTitle());
+        field(resume.getDescription());
+        field(resume.getTemplateName());
+        field(resume.getProfessionalSummary());
+        settings(resume.getSettings());
+        personalInfo(resume.getPersonalInfo());
+
+        List<WorkExperience> workExperiences = resume.getWorkExperiences();
+        count(workExperiences);
+        if (workExperiences != null) {
+            for (WorkExperience we : workExperiences) {
+                field(we.getJobTitle());
+                field(we.getCompany());
+                field(we.getLocation());
+                field(we.getStartDate());
+                field(we.getEndDate());
+                field(we.isCurrent());
+                field(we.getDescription());
+                field(we.getResponsibilities());
+                field(we.getAchievements());
+                field(we.getDisplayOrder());
+            }
+        }
+
+        List<Education> educations = resume.getEducations();
+        count(educations);
+        if (educations != null) {
+            for (Education edu : educations) {
+                field(edu.getDegree());
+                field(edu.getFieldOfStudy());
+                field(edu.getInstitution());
+                field(edu.getLocation());
+                field(edu.getStartDate());
+                field(edu.getEndDate());
+                field(edu.isCurrent());
+                field(edu.getGpa());
+                field(edu.getGpaScale());
+                field(edu.getDescription());
+                field(edu.getAchievements());
+                field(edu.getDisplayOrder());
+            }
+        }
+
+        List<Skill> skills = resume.getSkills();
+        count(skills);
+        if (skills != null) {
+            for (Skill skill : skills) {
+                field(skill.getName());
+                field(skill.getCategory());
+                field(skill.getProficiencyLevel());
+                field(skill.getDisplayOrder());
+                field(skill.isVisible());
+            }
+        }
+
+        List<Project> projects = resume.getProjects();
+        count(projects);
+        if (projects != null) {
+            for (Project project : projects) {
+                field(project.getName());
+                field(project.getDescription());
+                field(project.getTechnologies());
+                field(project.getProjectUrl());
+                field(project.getGithubUrl());
+                field(project.getStartDate());
+                field(project.getEndDate());
+                field(project.isCurrent());
+                field(project.getHighlights());
+                field(project.getRole());
+                field(project.getDisplayOrder());
+            }
+        }
+
+        List<CustomSection> customSections = resume.getCustomSections();
+        count(customSections);
+        if (customSections != null) {
+            for (CustomSection section : customSections) {
+                field(section.getSectionTitle());
+                field(section.getContent());
+                field(section.getContentType());
+                field(section.getDisplayOrder());
+                field(section.isVisible());
+            }
+        }
+    }
+
+    private void settings(ResumeSettings settings) {
+        field(settings != null);
+        if (settings == null) return;
+        field(settings.getPrimaryColor());
+        field(settings.getSecondaryColor());
+        field(settings.getFontFamily());
+        field(settings.getFontSize());
+        field(settings.getLineSpacing());
+        field(settings.getMarginTop());
+        field(settings.getMarginBottom());
+        field(settings.getMarginLeft());
+        field(settings.getMarginRight());
+        field(settings.isShowProfilePhoto());
+        field(settings.getSectionOrder());
+    }
+
+    private void personalInfo(PersonalInfo pi) {
+        field(pi != null);
+        if (pi == null) return;
+        field(pi.getFirstName());
+        field(pi.getLastName());
+        field(pi.getEmail());
+        field(pi.getPhone());
+        field(pi.getAddress());
+        field(pi.getCity());
+        field(pi.getState());
+        field(pi.getZipCode());
+        field(pi.getCountry());
+        field(pi.getLinkedinUrl());
+        field(pi.getGithubUrl());
+        field(pi.getPortfolioUrl());
+        field(pi.getWebsiteUrl());
+    }
+
+    private void count(List<?> list) {
+        writeInt(list == null ? -1 : list.size());
+    }
+
+    // Each value is length-prefixed so adjacent fields can never run into each other
+    private void field(Object value) {
+        if (value == null) {
+            writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        digest.update(bytes);
+    }
+
+    private void writeInt(int value) {
+        digest.update((byte) (value >>> 24));
+        digest.update((byte) (value >>> 16));
+        digest.update((byte) (value >>> 8));
+        digest.update((byte) value);
+    }
+}
@@ -0,0 +1,41 @@
+package com.resumebuilder.service.export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.stereotype.Service;
+
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.export.ExportCacheService.ExportKey;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Renders a fully loaded resume in any {@link ExportFormat}, going through the export cache
+ */
+@Service
+@RequiredArgsConstructor
+public class ResumeExportService {
+
+    private final PdfExportService pdfExportService;
+    private final DocxExportService docxExportService;
+    private final TextExportService textExportService;
+    private final ExportCacheService exportCacheService;
+
+    public byte[] export(Resume resume, ExportFormat format) throws IOException {
+        ExportKey key = exportCacheService.keyFor(resume, format);
+        return exportCacheService.getOrRender(key, () -> render(resume, format));
+    }
+
+    /**
+     * Renders without reading or filling the export cache, for one-off bulk renders that would
+     * otherwise evict the artifacts of resumes being edited
+     */
+    public byte[] render(Resume resume, ExportFormat format) throws IOException {
+        return switch (format) {
+            case PDF -> pdfExportService.exportToPdf(resume);
+            case DOCX -> docxExportService.exportToDocx(resume);
+            case TXT -> textExportService.exportToText(resume).getBytes(StandardCharsets.UTF_8);
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.resumebuilder.service.export;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.resumebuilder.model.PersonalInfo;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.WorkExperience;
+
+/**
+ * Service for exporting resumes to plain text
+ */
+@Service
+public class TextExportService {
+
+    public String exportToText(Resume resume) {
+        StringBuilder text = new StringBuilder();
+        
+        // Add personal info
+        PersonalInfo pi = resume.getPersonalInfo();
+        if (pi != null) {
+            String fullName = pi.getFirstName() + " " + pi.getLastName();
+            text.append(fullName).append("\n");
+            text.append(pi.getEmail()).append("\n");
+            if (pi.getPhone() != null) text.append(pi.getPhone()).append("\n");
+            text.append("\n");
+        }
+
+        // Add summary
+        String summary = resume.getProfessionalSummary();
+        if (summary != null && !summary.isEmpty()) {
+            text.append("PROFESSIONAL SUMMARY\n");
+            text.append(summary).append("\n\n");
+        }
+
+        // Add work experience
+        List<WorkExperience> workExperiences = resume.getWorkExperiences();
+        if (workExperiences != null && !workExperiences.isEmpty()) {
+            text.append("WORK EXPERIENCE\n");
+            workExperiences.forEach(we -> {
+                text.append(we.getJobTitle()).append(" - ").append(we.getCompany()).append("\n");
+                if (we.getStartDate() != null) {
+                    text.append(we.getStartDate().toString());
+                    if (we.getEndDate() != null) {
+                        text.append(" - ").append(we.getEndDate().toString());
+                    } else if (we.isCurrent()) {
+                        text.append(" - Present");
+                    }
+                    text.append("\n");
+                }
+                if (we.getResponsibilities() != null) {
+                    text.append(we.getResponsibilities()).append("\n");
+                }
+                text.append("\n");
+            });
+        }
+
+        return text.toString();
+    }
+}
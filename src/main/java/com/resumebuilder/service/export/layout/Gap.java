@@ -0,0 +1,14 @@
+package com.resumebuilder.service.export.layout;
+
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+
+/**
+ * Vertical whitespace. Dropped when it would start a new page.
+ */
+public record Gap(float advance) implements LayoutItem {
+
+    @Override
+    public void draw(PDPageContentStream contentStream, float y) {
+        // Nothing to draw
+    }
+}
@@ -0,0 +1,103 @@
+package com.resumebuilder.service.export.layout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A run of measured items that the page breaker places as a unit.
+ *
+ * Kept-together blocks (one work experience, one education entry) move to the next page whole
+ * when they do not fit, unless they are taller than a page. Flowing blocks may break between any
+ * two items. The block's height is accumulated as items are added, so it is never re-measured.
+ */
+public final class LayoutBlock {
+
+    private final List<LayoutItem> items = new ArrayList<>();
+    private final boolean keepTogether;
+    private boolean keepWithNext;
+    private float height;
+    private float trailingGap;
+
+    private LayoutBlock(boolean keepTogether) {
+        this.keepTogether = keepTogether;
+    }
+
+    public static LayoutBlock flowing() {
+        return new LayoutBlock(false);
+    }
+
+    public static LayoutBlock keptTogether() {
+        return new LayoutBlock(true);
+    }
+
+    public LayoutBlock add(LayoutItem item) {
+        items.add(item);
+        if (item instanceof Gap) {
+            trailingGap += item.advance();
+        } else {
+            height += trailingGap + item.advance();
+            trailingGap = 0;
+        }
+        return this;
+    }
+
+    public LayoutBlock addAll(List<? extends LayoutItem> lines) {
+        lines.forEach(this::add);
+        return this;
+    }
+
+    /**
+     * Keeps this block on the same page as the start of the following one, as for a section heading
+     */
+    public LayoutBlock keepWithNext() {
+        this.keepWithNext = true;
+        return this;
+    }
+
+    public List<LayoutItem> items() {
+        return Collections.unmodifiableList(items);
+    }
+
+    public boolean isKeepTogether() {
+        return keepTogether;
+    }
+
+    public boolean isKeepWithNext() {
+        return keepWithNext;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    /**
+     * Height of the block's content, not counting whitespace after its last line
+     */
+    public float height() {
+        return height;
+    }
+
+    /**
+     * Height of the block including trailing whitespace
+     */
+    public float extent() {
+        return height + trailingGap;
+    }
+
+    /**
+     * Height the block needs on the current page before it may start there: all of it when it is
+     * kept together, otherwise just its first line
+     */
+    float leadHeight() {
+        if (keepTogether) {
+            return height;
+        }
+        for (LayoutItem item : items) {
+            if (!(item instanceof Gap)) {
+                return item.advance();
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.resumebuilder.service.export.layout;
+
+import java.io.IOException;
+
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+
+/**
+ * One measured, indivisible piece of page content. Pages only ever break between items.
+ */
+public sealed interface LayoutItem permits TextLine, Rule, Gap {
+
+    /**
+     * Vertical distance from this item's baseline to the next item's baseline
+     */
+    float advance();
+
+    /**
+     * Draws the item with its baseline at {@code y}
+     */
+    void draw(PDPageContentStream contentStream, float y) throws IOException;
+}
@@ -0,0 +1,12 @@
+package com.resumebuilder.service.export.layout;
+
+import java.util.List;
+
+/**
+ * The items assigned to one page, each with the baseline it is drawn at
+ */
+public record LayoutPage(List<Placement> placements) {
+
+    public record Placement(LayoutItem item, float y) {
+    }
+}
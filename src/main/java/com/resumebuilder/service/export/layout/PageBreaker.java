@@ -0,0 +1,63 @@
+package com.resumebuilder.service.export.layout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Assigns measured blocks to pages.
+ *
+ * Works in a single pass over the items using the heights recorded during measurement, so the
+ * cost is linear in the size of the document however many pages it spans. Whitespace is dropped
+ * at the top of a page, a block marked keep-with-next is moved along with the start of the block
+ * after it, and a kept-together block that does not fit the rest of the page starts a new page.
+ * Blocks taller than a whole page are broken between items like flowing blocks.
+ */
+public final class PageBreaker {
+
+    private PageBreaker() {
+    }
+
+    public static List<LayoutPage> paginate(List<LayoutBlock> blocks, PageFrame frame) {
+        List<LayoutPage> pages = new ArrayList<>();
+        List<LayoutPage.Placement> current = new ArrayList<>();
+        float y = frame.top();
+
+        for (int i = 0; i < blocks.size(); i++) {
+            LayoutBlock block = blocks.get(i);
+            if (block.isEmpty()) {
+                continue;
+            }
+
+            float required = block.isKeepTogether() ? block.height() : block.leadHeight();
+            if (block.isKeepWithNext() && i + 1 < blocks.size()) {
+                required = block.extent() + blocks.get(i + 1).leadHeight();
+            }
+            if (!current.isEmpty() && required <= frame.height() && y - required < frame.bottom()) {
+                pages.add(new LayoutPage(current));
+                current = new ArrayList<>();
+                y = frame.top();
+            }
+
+            for (LayoutItem item : block.items()) {
+                if (item instanceof Gap) {
+                    if (!current.isEmpty()) {
+                        y -= item.advance();
+                    }
+                    continue;
+                }
+                if (!current.isEmpty() && y - item.advance() < frame.bottom()) {
+                    pages.add(new LayoutPage(current));
+                    current = new ArrayList<>();
+                    y = frame.top();
+                }
+                current.add(new LayoutPage.Placement(item, y));
+                y -= item.advance();
+            }
+        }
+
+        if (!current.isEmpty() || pages.isEmpty()) {
+            pages.add(new LayoutPage(current));
+        }
+        return pages;
+    }
+}
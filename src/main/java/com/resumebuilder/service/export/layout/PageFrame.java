@@ -0,0 +1,30 @@
+package com.resumebuilder.service.export.layout;
+
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+
+/**
+ * Printable area of a page in PDF points: content starts at {@code top} and must not go below {@code bottom}
+ */
+public record PageFrame(PDRectangle mediaBox, float left, float right, float top, float bottom) {
+
+    private static final float POINTS_PER_MM = 72f / 25.4f;
+
+    /**
+     * Builds a frame from margins given in millimetres
+     */
+    public static PageFrame of(PDRectangle mediaBox, float topMm, float rightMm, float bottomMm, float leftMm) {
+        return new PageFrame(mediaBox,
+                leftMm * POINTS_PER_MM,
+                mediaBox.getWidth() - rightMm * POINTS_PER_MM,
+                mediaBox.getHeight() - topMm * POINTS_PER_MM,
+                bottomMm * POINTS_PER_MM);
+    }
+
+    public float width() {
+        return right - left;
+    }
+
+    public float height() {
+        return top - bottom;
+    }
+}
@@ -0,0 +1,30 @@
+package com.resumebuilder.service.export.layout;
+
+import java.awt.Color;
+import java.io.IOException;
+
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+
+/**
+ * A horizontal separator line; a null color draws in the default black
+ */
+public record Rule(float fromX, float toX, float lineWidth, float advance, Color color) implements LayoutItem {
+
+    public Rule(float fromX, float toX, float lineWidth, float advance) {
+        this(fromX, toX, lineWidth, advance, null);
+    }
+
+    @Override
+    public void draw(PDPageContentStream contentStream, float y) throws IOException {
+        if (color != null) {
+            contentStream.setStrokingColor(color);
+        }
+        contentStream.setLineWidth(lineWidth);
+        contentStream.moveTo(fromX, y);
+        contentStream.lineTo(toX, y);
+        contentStream.stroke();
+        if (color != null) {
+            contentStream.setStrokingColor(Color.BLACK);
+        }
+    }
+}
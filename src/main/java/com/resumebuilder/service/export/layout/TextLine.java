@@ -0,0 +1,34 @@
+package com.resumebuilder.service.export.layout;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+
+/**
+ * One line of text, possibly made of several runs sharing a baseline
+ */
+public record TextLine(List<TextRun> runs, float advance) implements LayoutItem {
+
+    public static TextLine of(TextRun run, float advance) {
+        return new TextLine(List.of(run), advance);
+    }
+
+    @Override
+    public void draw(PDPageContentStream contentStream, float y) throws IOException {
+        for (TextRun run : runs) {
+            if (run.color() != null) {
+                contentStream.setNonStrokingColor(run.color());
+            }
+            contentStream.beginText();
+            contentStream.setFont(run.font(), run.fontSize());
+            contentStream.newLineAtOffset(run.x(), y);
+            contentStream.showText(run.text());
+            contentStream.endText();
+            if (run.color() != null) {
+                contentStream.setNonStrokingColor(Color.BLACK);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.resumebuilder.service.export.layout;
+
+import java.awt.Color;
+
+import org.apache.pdfbox.pdmodel.font.PDFont;
+
+/**
+ * A run of text in a single font, starting at a fixed x position on its line.
+ * A null color draws in the default black.
+ */
+public record TextRun(PDFont font, float fontSize, float x, String text, Color color) {
+
+    public TextRun(PDFont font, float fontSize, float x, String text) {
+        this(font, fontSize, x, text, null);
+    }
+}
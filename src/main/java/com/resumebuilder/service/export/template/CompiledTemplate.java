@@ -0,0 +1,513 @@
+package com.resumebuilder.service.export.template;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.pdfbox.pdmodel.font.PDFont;
+
+import com.resumebuilder.model.CustomSection;
+import com.resumebuilder.model.Education;
+import com.resumebuilder.model.PersonalInfo;
+import com.resumebuilder.model.Project;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.ResumeSettings;
+import com.resumebuilder.model.Skill;
+import com.resumebuilder.model.WorkExperience;
+import com.resumebuilder.service.export.DocumentFonts;
+import com.resumebuilder.service.export.FontMetrics;
+import com.resumebuilder.service.export.LineBreaker;
+import com.resumebuilder.service.export.layout.Gap;
+import com.resumebuilder.service.export.layout.LayoutBlock;
+import com.resumebuilder.service.export.layout.PageFrame;
+import com.resumebuilder.service.export.layout.Rule;
+import com.resumebuilder.service.export.layout.TextLine;
+import com.resumebuilder.service.export.layout.TextRun;
+
+/**
+ * A {@link TemplateDefinition} resolved into a render plan.
+ *
+ * Styles, colors and headings are validated and resolved once by {@link #compile}; each section
+ * becomes a layout step bound to those resolved styles. A resume's section order selects and
+ * orders the steps, and the resulting plan is cached per distinct order string, so laying out a
+ * resume neither parses the order nor looks up styles. Instances are immutable apart from that
+ * cache and safe to share between threads.
+ */
+public final class CompiledTemplate {
+
+    private static final int MAX_CACHED_PLANS = 256;
+
+    private enum Section {
+        PERSONAL("personal", null),
+        SUMMARY("summary", "PROFESSIONAL SUMMARY"),
+        EXPERIENCE("experience", "WORK EXPERIENCE"),
+        EDUCATION("education", "EDUCATION"),
+        SKILLS("skills", "SKILLS"),
+        PROJECTS("projects", "PROJECTS"),
+        CUSTOM("custom", null);
+
+        private final String key;
+        private final String defaultHeading;
+
+        Section(String key, String defaultHeading) {
+            this.key = key;
+            this.defaultHeading = defaultHeading;
+        }
+
+        static Section fromKey(String key) {
+            for (Section section : values()) {
+                if (section.key.equals(key)) {
+                    return section;
+                }
+            }
+            return null;
+        }
+    }
+
+    private enum FontRole {
+        REGULAR, BOLD, ITALIC, BOLD_ITALIC
+    }
+
+    private enum ColorRole {
+        BLACK, PRIMARY, SECONDARY, FIXED
+    }
+
+    private record TextStyle(FontRole font, float size, float advance, ColorRole colorRole, Color color) {
+    }
+
+    private record RuleStyle(float width, float advance, ColorRole colorRole, Color color) {
+    }
+
+    @FunctionalInterface
+    private interface SectionLayout {
+        void layout(Resume resume, RenderContext context, List<LayoutBlock> blocks) throws IOException;
+    }
+
+    /**
+     * Per-document state of one layout call: the document's fonts by role and the resume's colors
+     */
+    private record RenderContext(PDFont[] fonts, FontMetrics[] metrics, PageFrame frame,
+                                 Color primary, Color secondary) {
+
+        Color color(ColorRole role, Color fixed) {
+            return switch (role) {
+                case BLACK -> null;
+                case PRIMARY -> primary;
+                case SECONDARY -> secondary;
+                case FIXED -> fixed;
+            };
+        }
+
+        TextRun run(TextStyle style, float x, String text) {
+            return new TextRun(fonts[style.font().ordinal()], style.size(), x, text,
+                    color(style.colorRole(), style.color()));
+        }
+
+        TextLine line(TextStyle style, float x, String text) {
+            return TextLine.of(run(style, x, text), style.advance());
+        }
+
+        FontMetrics metrics(TextStyle style) {
+            return metrics[style.font().ordinal()];
+        }
+    }
+
+    private final String name;
+    private final TextStyle nameStyle;
+    private final TextStyle contactStyle;
+    private final TextStyle headingStyle;
+    private final TextStyle subheadingStyle;
+    private final TextStyle metaStyle;
+    private final TextStyle bodyStyle;
+    private final TextStyle labelStyle;
+    private final TextStyle smallStyle;
+    private final RuleStyle headerRule;
+    private final RuleStyle headingRule;
+    private final Map<Section, String> headings = new EnumMap<>(Section.class);
+    private final boolean uppercaseHeadings;
+    private final TemplateDefinition.Spacing spacing;
+    private final String bullet;
+
+    private final Map<Section, SectionLayout> steps = new EnumMap<>(Section.class);
+    private final List<SectionLayout> defaultPlan;
+    private final Map<String, List<SectionLayout>> plans = new ConcurrentHashMap<>();
+
+    private CompiledTemplate(TemplateDefinition definition) {
+        this.name = definition.name().trim().toLowerCase(Locale.ROOT);
+        this.nameStyle = style(definition, "name");
+        this.contactStyle = style(definition, "contact");
+        this.headingStyle = style(definition, "heading");
+        this.subheadingStyle = style(definition, "subheading");
+        this.metaStyle = style(definition, "meta");
+        this.bodyStyle = style(definition, "body");
+        this.labelStyle = style(definition, "label");
+        this.smallStyle = style(definition, "small");
+        this.headerRule = rule(definition, definition.headerRule());
+        this.headingRule = rule(definition, definition.headingRule());
+        this.uppercaseHeadings = definition.uppercaseHeadings();
+        this.spacing = definition.spacing() != null
+                ? definition.spacing()
+                : new TemplateDefinition.Spacing(10, 3, 10, 10, 20, 100);
+        this.bullet = definition.bullet() != null && !definition.bullet().isEmpty() ? definition.bullet() : "•";
+
+        for (Section section : Section.values()) {
+            String heading = definition.headings() != null ? definition.headings().get(section.key) : null;
+            headings.put(section, heading != null ? heading : section.defaultHeading);
+        }
+
+        steps.put(Section.PERSONAL, this::layoutPersonalInfo);
+        steps.put(Section.SUMMARY, this::layoutSummary);
+        steps.put(Section.EXPERIENCE, this::layoutWorkExperience);
+        steps.put(Section.EDUCATION, this::layoutEducation);
+        steps.put(Section.SKILLS, this::layoutSkills);
+        steps.put(Section.PROJECTS, this::layoutProjects);
+        steps.put(Section.CUSTOM, this::layoutCustomSections);
+        this.defaultPlan = List.copyOf(steps.values());
+    }
+
+    /**
+     * Validates a definition and resolves it into a render plan
+     *
+     * @throws IllegalArgumentException if a style is missing or a font or color is not recognized
+     */
+    public static CompiledTemplate compile(TemplateDefinition definition) {
+        if (definition.name() == null || definition.name().isBlank()) {
+            throw new IllegalArgumentException("Template name is required");
+        }
+        return new CompiledTemplate(definition);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Lays out the resume's sections, in its section order, into blocks for the page breaker
+     */
+    public List<LayoutBlock> layout(Resume resume, DocumentFonts fonts, PageFrame frame) throws IOException {
+        ResumeSettings settings = resume.getSettings() != null ? resume.getSettings() : new ResumeSettings();
+        PDFont[] documentFonts = {fonts.regular(), fonts.bold(), fonts.italic(), fonts.boldItalic()};
+        FontMetrics[] metrics = new FontMetrics[documentFonts.length];
+        for (int i = 0; i < documentFonts.length; i++) {
+            metrics[i] = fonts.metrics(documentFonts[i]);
+        }
+        RenderContext context = new RenderContext(documentFonts, metrics, frame,
+                settingsColor(settings.getPrimaryColor()), settingsColor(settings.getSecondaryColor()));
+
+        List<LayoutBlock> blocks = new ArrayList<>();
+        for (SectionLayout step : plan(settings.getSectionOrder())) {
+            step.layout(resume, context, blocks);
+        }
+        return blocks;
+    }
+
+    private List<SectionLayout> plan(String sectionOrder) {
+        if (sectionOrder == null || sectionOrder.isBlank()) {
+            return defaultPlan;
+        }
+        List<SectionLayout> plan = plans.get(sectionOrder);
+        if (plan == null) {
+            List<SectionLayout> parsed = new ArrayList<>();
+            EnumSet<Section> seen = EnumSet.noneOf(Section.class);
+            for (String key : sectionOrder.split(",")) {
+                Section section = Section.fromKey(key.trim().toLowerCase(Locale.ROOT));
+                if (section != null && seen.add(section)) {
+                    parsed.add(steps.get(section));
+                }
+            }
+            plan = List.copyOf(parsed);
+            if (plans.size() < MAX_CACHED_PLANS) {
+                plans.putIfAbsent(sectionOrder, plan);
+            }
+        }
+        return plan;
+    }
+
+    private void layoutPersonalInfo(Resume resume, RenderContext context, List<LayoutBlock> blocks) {
+        PersonalInfo pi = resume.getPersonalInfo();
+        if (pi == null) {
+            return;
+        }
+        float left = context.frame().left();
+        LayoutBlock header = LayoutBlock.keptTogether();
+
+        header.add(context.line(nameStyle, left, pi.getFullName()));
+        String contactLine = String.format("%s | %s", pi.getEmail(), pi.getPhone() != null ? pi.getPhone() : "");
+        header.add(context.line(contactStyle, left, contactLine));
+
+        if (pi.getLinkedinUrl() != null || pi.getGithubUrl() != null || pi.getPortfolioUrl() != null) {
+            List<String> links = new ArrayList<>();
+            if (pi.getLinkedinUrl() != null) links.add("LinkedIn: " + pi.getLinkedinUrl());
+            if (pi.getGithubUrl() != null) links.add("GitHub: " + pi.getGithubUrl());
+            if (pi.getPortfolioUrl() != null) links.add("Portfolio: " + pi.getPortfolioUrl());
+            header.add(context.line(contactStyle, left, String.join(" | ", links)));
+        }
+        header.add(new Gap(spacing.afterHeader()));
+
+        if (headerRule != null) {
+            header.add(rule(headerRule, context));
+        }
+        blocks.add(header);
+    }
+
+    private void layoutSummary(Resume resume, RenderContext context, List<LayoutBlock> blocks) throws IOException {
+        String summary = resume.getProfessionalSummary();
+        if (summary == null || summary.isEmpty()) {
+            return;
+        }
+        PageFrame frame = context.frame();
+        blocks.add(sectionHeader(headings.get(Section.SUMMARY), context));
+        blocks.add(LayoutBlock.flowing()
+                .addAll(wrappedLines(summary, bodyStyle, context, frame.left(), frame.right()))
+                .add(new Gap(spacing.afterEntry())));
+    }
+
+    private void layoutWorkExperience(Resume resume, RenderContext context, List<LayoutBlock> blocks)
+            throws IOException {
+        if (resume.getWorkExperiences() == null || resume.getWorkExperiences().isEmpty()) {
+            return;
+        }
+        float left = context.frame().left();
+        blocks.add(sectionHeader(headings.get(Section.EXPERIENCE), context));
+
+        for (WorkExperience we : resume.getWorkExperiences()) {
+            LayoutBlock entry = LayoutBlock.keptTogether();
+            entry.add(context.line(subheadingStyle, left, we.getJobTitle() + " - " + we.getCompany()));
+            entry.add(context.line(metaStyle, left,
+                    we.getDateRange() + " | " + (we.getLocation() != null ? we.getLocation() : "")));
+
+            if (we.getResponsibilities() != null && !we.getResponsibilities().isEmpty()) {
+                entry.add(new Gap(spacing.afterMeta()));
+                for (String responsibility : we.getResponsibilityBullets()) {
+                    entry.addAll(bulletLines(responsibility, context));
+                }
+            }
+            blocks.add(entry.add(new Gap(spacing.afterEntry())));
+        }
+    }
+
+    private void layoutEducation(Resume resume, RenderContext context, List<LayoutBlock> blocks) {
+        if (resume.getEducations() == null || resume.getEducations().isEmpty()) {
+            return;
+        }
+        float left = context.frame().left();
+        blocks.add(sectionHeader(headings.get(Section.EDUCATION), context));
+
+        for (Education edu : resume.getEducations()) {
+            LayoutBlock entry = LayoutBlock.keptTogether();
+            entry.add(context.line(subheadingStyle, left,
+                    edu.getDegree() + (edu.getFieldOfStudy() != null ? " in " + edu.getFieldOfStudy() : "")));
+            entry.add(context.line(bodyStyle, left, edu.getInstitution()));
+
+            String eduInfo = edu.getDateRange();
+            if (edu.getGpa() != null) {
+                eduInfo += " | GPA: " + edu.getFormattedGpa();
+            }
+            entry.add(context.line(metaStyle, left, eduInfo));
+            blocks.add(entry.add(new Gap(spacing.afterEntry())));
+        }
+    }
+
+    private void layoutSkills(Resume resume, RenderContext context, List<LayoutBlock> blocks) throws IOException {
+        if (resume.getSkills() == null) {
+            return;
+        }
+        // Hidden skills are left out, as in the HTML export
+        List<Skill> visible = resume.getSkills().stream().filter(Skill::isVisible).toList();
+        if (visible.isEmpty()) {
+            return;
+        }
+        PageFrame frame = context.frame();
+        blocks.add(sectionHeader(headings.get(Section.SKILLS), context));
+        LayoutBlock skills = LayoutBlock.flowing();
+
+        // Categories in order of their first skill; skills without one are listed without a label
+        Map<String, List<String>> skillsByCategory = new LinkedHashMap<>();
+        for (Skill skill : visible) {
+            String category = skill.getCategory();
+            if (category != null && category.isBlank()) {
+                category = null;
+            }
+            skillsByCategory.computeIfAbsent(category, key -> new ArrayList<>()).add(skill.getName());
+        }
+
+        float listX = frame.left() + spacing.skillLabelWidth();
+        for (Map.Entry<String, List<String>> category : skillsByCategory.entrySet()) {
+            List<String> lines = LineBreaker.wrap(String.join(", ", category.getValue()),
+                    context.metrics(bodyStyle), bodyStyle.size(), frame.right() - listX);
+            for (int i = 0; i < lines.size(); i++) {
+                TextRun list = context.run(bodyStyle, listX, lines.get(i));
+                skills.add(i == 0 && category.getKey() != null
+                        ? new TextLine(List.of(context.run(labelStyle, frame.left(), category.getKey() + ": "), list),
+                                bodyStyle.advance())
+                        : TextLine.of(list, bodyStyle.advance()));
+            }
+        }
+        blocks.add(skills.add(new Gap(spacing.afterEntry())));
+    }
+
+    private void layoutProjects(Resume resume, RenderContext context, List<LayoutBlock> blocks) throws IOException {
+        if (resume.getProjects() == null || resume.getProjects().isEmpty()) {
+            return;
+        }
+        PageFrame frame = context.frame();
+        float left = frame.left();
+        blocks.add(sectionHeader(headings.get(Section.PROJECTS), context));
+
+        for (Project project : resume.getProjects()) {
+            LayoutBlock entry = LayoutBlock.flowing();
+            entry.add(context.line(subheadingStyle, left, project.getName()));
+
+            if (project.getTechnologies() != null && !project.getTechnologies().isEmpty()) {
+                entry.add(context.line(metaStyle, left, "Technologies: " + project.getTechnologies()));
+            }
+            if (project.getDescription() != null && !project.getDescription().isEmpty()) {
+                entry.addAll(wrappedLines(project.getDescription(), bodyStyle, context, left, frame.right()));
+            }
+            if (project.getProjectUrl() != null || project.getGithubUrl() != null) {
+                String links = "";
+                if (project.getProjectUrl() != null) links += "URL: " + project.getProjectUrl();
+                if (project.getGithubUrl() != null) {
+                    if (!links.isEmpty()) links += " | ";
+                    links += "GitHub: " + project.getGithubUrl();
+                }
+                entry.add(context.line(smallStyle, left, links));
+            }
+            blocks.add(entry.add(new Gap(spacing.afterEntry())));
+        }
+    }
+
+    private void layoutCustomSections(Resume resume, RenderContext context, List<LayoutBlock> blocks)
+            throws IOException {
+        if (resume.getCustomSections() == null) {
+            return;
+        }
+        PageFrame frame = context.frame();
+        for (CustomSection section : resume.getCustomSections()) {
+            if (!section.isVisible()) {
+                continue;
+            }
+            String title = section.getSectionTitle() != null ? section.getSectionTitle() : "";
+            blocks.add(sectionHeader(uppercaseHeadings ? title.toUpperCase(Locale.ROOT) : title, context));
+
+            LayoutBlock content = LayoutBlock.flowing();
+            if (section.getContentType() == CustomSection.ContentType.BULLET_LIST) {
+                for (String item : section.getContentAsList()) {
+                    if (!item.isBlank()) {
+                        content.addAll(bulletLines(item.trim(), context));
+                    }
+                }
+            } else if (section.getContent() != null) {
+                content.addAll(wrappedLines(section.getContent(), bodyStyle, context, frame.left(), frame.right()));
+            }
+            blocks.add(content.add(new Gap(spacing.afterEntry())));
+        }
+    }
+
+    private LayoutBlock sectionHeader(String title, RenderContext context) {
+        LayoutBlock header = LayoutBlock.keptTogether().add(context.line(headingStyle, context.frame().left(), title));
+        if (headingRule != null) {
+            header.add(rule(headingRule, context));
+        }
+        return header.keepWithNext();
+    }
+
+    /**
+     * Wraps text between two x positions, one paragraph per line of input
+     */
+    private static List<TextLine> wrappedLines(String text, TextStyle style, RenderContext context,
+                                               float fromX, float toX) throws IOException {
+        List<TextLine> lines = new ArrayList<>();
+        for (String paragraph : text.split("\\R")) {
+            for (String line : LineBreaker.wrap(paragraph, context.metrics(style), style.size(), toX - fromX)) {
+                lines.add(context.line(style, fromX, line));
+            }
+        }
+        return lines;
+    }
+
+    private List<TextLine> bulletLines(String text, RenderContext context) throws IOException {
+        PageFrame frame = context.frame();
+        List<TextLine> lines = wrappedLines(text, bodyStyle, context,
+                frame.left() + spacing.textIndent(), frame.right());
+        if (!lines.isEmpty()) {
+            // Bullet shares the baseline of the first line
+            TextLine first = lines.get(0);
+            List<TextRun> runs = new ArrayList<>(first.runs());
+            runs.add(0, context.run(bodyStyle, frame.left() + spacing.bulletIndent(), bullet));
+            lines.set(0, new TextLine(runs, first.advance()));
+        }
+        return lines;
+    }
+
+    private static Rule rule(RuleStyle style, RenderContext context) {
+        PageFrame frame = context.frame();
+        return new Rule(frame.left(), frame.right(), style.width(), style.advance(),
+                context.color(style.colorRole(), style.color()));
+    }
+
+    private static TextStyle style(TemplateDefinition definition, String key) {
+        TemplateDefinition.Style style = definition.styles() != null ? definition.styles().get(key) : null;
+        if (style == null) {
+            throw new IllegalArgumentException("Template " + definition.name() + " has no '" + key + "' style");
+        }
+        if (style.size() <= 0 || style.advance() <= 0) {
+            throw new IllegalArgumentException("Template " + definition.name() + " style '" + key
+                    + "' needs a positive size and advance");
+        }
+        FontRole font = switch (style.font() != null ? style.font().toLowerCase(Locale.ROOT) : "regular") {
+            case "regular" -> FontRole.REGULAR;
+            case "bold" -> FontRole.BOLD;
+            case "italic" -> FontRole.ITALIC;
+            case "bold-italic" -> FontRole.BOLD_ITALIC;
+            default -> throw new IllegalArgumentException("Template " + definition.name()
+                    + " style '" + key + "' has unknown font " + style.font());
+        };
+        ColorRole colorRole = colorRole(definition, style.color());
+        return new TextStyle(font, style.size(), style.advance(), colorRole,
+                colorRole == ColorRole.FIXED ? Color.decode(style.color()) : null);
+    }
+
+    private static RuleStyle rule(TemplateDefinition definition, TemplateDefinition.RuleStyle rule) {
+        if (rule == null) {
+            return null;
+        }
+        ColorRole colorRole = colorRole(definition, rule.color());
+        return new RuleStyle(rule.width(), rule.advance(), colorRole,
+                colorRole == ColorRole.FIXED ? Color.decode(rule.color()) : null);
+    }
+
+    private static ColorRole colorRole(TemplateDefinition definition, String color) {
+        if (color == null || color.isEmpty()) {
+            return ColorRole.BLACK;
+        }
+        return switch (color.toLowerCase(Locale.ROOT)) {
+            case "primary" -> ColorRole.PRIMARY;
+            case "secondary" -> ColorRole.SECONDARY;
+            default -> {
+                if (!color.matches("#[0-9a-fA-F]{6}")) {
+                    throw new IllegalArgumentException("Template " + definition.name() + " has invalid color " + color);
+                }
+                yield ColorRole.FIXED;
+            }
+        };
+    }
+
+    private static Color settingsColor(String hex) {
+        if (hex == null) {
+            return null;
+        }
+        try {
+            return Color.decode(hex);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
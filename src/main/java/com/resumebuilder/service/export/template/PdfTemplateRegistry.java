@@ -0,0 +1,98 @@
+package com.resumebuilder.service.export.template;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Application-wide registry of the PDF templates, resolved by {@code Resume.templateName}.
+ *
+ * The built-in professional, modern and creative templates are read from the classpath; any
+ * {@code *.json} definition in {@code app.resume.template-directory} is added (or replaces a
+ * built-in of the same name). Every template is compiled once at startup. Unknown names fall back
+ * to the professional template.
+ */
+@Component
+public class PdfTemplateRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfTemplateRegistry.class);
+
+    private static final String DEFAULT_TEMPLATE = "professional";
+    private static final List<String> BUILT_IN_TEMPLATES = List.of("professional", "modern", "creative");
+
+    private final Path templateDirectory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, CompiledTemplate> templates = new TreeMap<>();
+
+    public PdfTemplateRegistry(@Value("${app.resume.template-directory:./templates}") String templateDirectory) {
+        this.templateDirectory = Paths.get(templateDirectory);
+    }
+
+    @PostConstruct
+    public void load() {
+        for (String name : BUILT_IN_TEMPLATES) {
+            try (InputStream in = PdfTemplateRegistry.class.getResourceAsStream("/pdf-templates/" + name + ".json")) {
+                if (in == null) {
+                    throw new IllegalStateException("Built-in template " + name + " is missing");
+                }
+                register(objectMapper.readValue(in, TemplateDefinition.class));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read built-in template " + name, e);
+            }
+        }
+
+        if (!Files.isDirectory(templateDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(templateDirectory, "*.json")) {
+            for (Path file : files) {
+                try {
+                    register(objectMapper.readValue(file.toFile(), TemplateDefinition.class));
+                } catch (IOException | IllegalArgumentException e) {
+                    log.warn("Skipping invalid template {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to scan template directory {}", templateDirectory, e);
+        }
+        log.info("Registered {} PDF templates", templates.size());
+    }
+
+    /**
+     * The compiled template of the given name, or the professional template for unknown or empty names
+     */
+    public CompiledTemplate get(String templateName) {
+        CompiledTemplate template = templateName != null
+                ? templates.get(templateName.trim().toLowerCase(Locale.ROOT))
+                : null;
+        return template != null ? template : templates.get(DEFAULT_TEMPLATE);
+    }
+
+    public Set<String> names() {
+        return Collections.unmodifiableSet(templates.keySet());
+    }
+
+    private void register(TemplateDefinition definition) {
+        CompiledTemplate template = CompiledTemplate.compile(definition);
+        templates.put(template.name(), template);
+        log.debug("Compiled PDF template {}", template.name());
+    }
+}
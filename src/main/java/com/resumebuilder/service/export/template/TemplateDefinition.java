@@ -0,0 +1,44 @@
+package com.resumebuilder.service.export.template;
+
+import java.util.Map;
+
+/**
+ * Declarative description of a PDF template, as read from a JSON file.
+ *
+ * Which sections appear, and in what order, comes from each resume's
+ * {@code ResumeSettings.sectionOrder}; the template supplies everything else: the text styles
+ * ({@code name}, {@code contact}, {@code heading}, {@code subheading}, {@code meta}, {@code body},
+ * {@code label}, {@code small}), section headings, separator rules, spacing and the bullet glyph.
+ * {@link CompiledTemplate#compile} validates it and resolves it into a render plan.
+ */
+public record TemplateDefinition(
+        String name,
+        Map<String, Style> styles,
+        Map<String, String> headings,
+        boolean uppercaseHeadings,
+        RuleStyle headerRule,
+        RuleStyle headingRule,
+        Spacing spacing,
+        String bullet) {
+
+    /**
+     * A text style. {@code font} is regular, bold, italic or bold-italic; {@code color} is primary
+     * or secondary (taken from the resume's settings), a {@code #rrggbb} value, or absent for black.
+     * {@code advance} is the distance to the next line's baseline.
+     */
+    public record Style(String font, float size, float advance, String color) {
+    }
+
+    /**
+     * A horizontal rule; {@code color} as for {@link Style}
+     */
+    public record RuleStyle(float width, float advance, String color) {
+    }
+
+    /**
+     * Vertical gaps and horizontal indents, in points
+     */
+    public record Spacing(float afterHeader, float afterMeta, float afterEntry,
+                          float bulletIndent, float textIndent, float skillLabelWidth) {
+    }
+}
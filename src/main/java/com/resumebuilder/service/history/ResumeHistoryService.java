@@ -0,0 +1,253 @@
+package com.resumebuilder.service.history;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resumebuilder.dto.ResumeRevisionDiff;
+import com.resumebuilder.dto.ResumeRevisionInfo;
+import com.resumebuilder.model.CustomSection;
+import com.resumebuilder.model.Education;
+import com.resumebuilder.model.PersonalInfo;
+import com.resumebuilder.model.Project;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.ResumeRevision;
+import com.resumebuilder.model.ResumeSettings;
+import com.resumebuilder.model.Skill;
+import com.resumebuilder.model.WorkExperience;
+import com.resumebuilder.repository.ResumeRevisionRepository;
+import com.resumebuilder.service.ResumeChangedEvent;
+import com.resumebuilder.service.ResumeService;
+
+/**
+ * Keeps the last {@code app.resume.max-versions} saved states of every resume.
+ *
+ * A state is the resume content flattened to a sorted map of JSON Pointer paths to JSON values,
+ * with section entries keyed by id. Revisions are stored RCS-style: the newest one as a full
+ * snapshot, older ones as reverse deltas against their successor, except that every
+ * {@code app.resume.history.full-snapshot-interval}-th revision stays full. Recording a save
+ * therefore only reads the newest revision, pruning simply drops the oldest rows, and reading any
+ * revision applies fewer deltas than the interval.
+ */
+@Service
+public class ResumeHistoryService {
+
+    @JsonIgnoreProperties({"id", "version", "user", "resume", "createdAt", "updatedAt",
+            "shareableToken", "shareEnabled"})
+    private abstract static class ContentMixIn {
+    }
+
+    // Section ids are kept to key the entries, then dropped from the values
+    @JsonIgnoreProperties({"version", "resume"})
+    private abstract static class SectionMixIn {
+    }
+
+    private final ResumeRevisionRepository revisionRepository;
+    private final ResumeService resumeService;
+    private final ObjectMapper snapshotMapper;
+    private final int maxRevisions;
+    private final int fullSnapshotInterval;
+
+    public ResumeHistoryService(ResumeRevisionRepository revisionRepository,
+                                ResumeService resumeService,
+                                ObjectMapper objectMapper,
+                                @Value("${app.resume.max-versions:10}") int maxRevisions,
+                                @Value("${app.resume.history.full-snapshot-interval:10}") int fullSnapshotInterval) {
+        this.revisionRepository = revisionRepository;
+        this.resumeService = resumeService;
+        // Snapshots hold the stored fields only; derived getters such as dateRange or
+        // responsibilityBullets would store each edit twice and show up as extra changes in diffs
+        this.snapshotMapper = objectMapper.copy()
+                .setVisibility(PropertyAccessor.GETTER, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.IS_GETTER, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .addMixIn(Resume.class, ContentMixIn.class)
+                .addMixIn(PersonalInfo.class, ContentMixIn.class)
+                .addMixIn(ResumeSettings.class, ContentMixIn.class)
+                .addMixIn(WorkExperience.class, SectionMixIn.class)
+                .addMixIn(Education.class, SectionMixIn.class)
+                .addMixIn(Skill.class, SectionMixIn.class)
+                .addMixIn(Project.class, SectionMixIn.class)
+                .addMixIn(CustomSection.class, SectionMixIn.class);
+        this.maxRevisions = maxRevisions;
+        this.fullSnapshotInterval = Math.max(1, fullSnapshotInterval);
+    }
+
+    /**
+     * Records the committed state of a changed resume, or drops the history of a deleted one.
+     * Runs after the change commits so a history failure never rolls back a user's save.
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onResumeChanged(ResumeChangedEvent event) {
+        if (maxRevisions > 0 && event.resumeId() != null) {
+            record(event.resumeId());
+        }
+    }
+
+    private void record(Long resumeId) {
+        Optional<Resume> resume = resumeService.findByIdWithAllDetails(resumeId);
+        if (resume.isEmpty()) {
+            revisionRepository.deleteByResumeId(resumeId);
+            return;
+        }
+        SortedMap<String, String> state = flatten(resume.get());
+
+        int revision = 1;
+        Optional<ResumeRevision> head = revisionRepository.findFirstByResumeIdOrderByRevisionDesc(resumeId);
+        if (head.isPresent()) {
+            ResumeRevision previous = head.get();
+            SortedMap<String, String> previousState = new TreeMap<>();
+            RevisionCodec.apply(previous.getData(), previousState);
+            if (previousState.equals(state)) {
+                // Nothing new, e.g. a second event from the same transaction
+                return;
+            }
+            if (previous.getRevision() % fullSnapshotInterval != 0) {
+                byte[] delta = RevisionCodec.delta(state, previousState);
+                previous.setData(delta);
+                previous.setDataSize(delta.length);
+                previous.setFull(false);
+            }
+            revision = previous.getRevision() + 1;
+        }
+
+        byte[] snapshot = RevisionCodec.full(state);
+        revisionRepository.save(ResumeRevision.builder()
+                .resumeId(resumeId)
+                .revision(revision)
+                .resumeVersion(resume.get().getVersion())
+                .full(true)
+                .data(snapshot)
+                .dataSize(snapshot.length)
+                .build());
+        if (revision > maxRevisions) {
+            revisionRepository.deleteUpToRevision(resumeId, revision - maxRevisions);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResumeRevisionInfo> listRevisions(@NonNull Long resumeId) {
+        return revisionRepository.findInfoByResumeId(Objects.requireNonNull(resumeId, "Resume ID must not be null"));
+    }
+
+    /**
+     * The content of one revision as a JSON object shaped like the resume, with section entries
+     * keyed by id
+     */
+    @Transactional(readOnly = true)
+    public ObjectNode getRevision(@NonNull Long resumeId, int revision) {
+        ObjectNode content = snapshotMapper.createObjectNode();
+        for (Map.Entry<String, String> entry : readState(resumeId, revision).entrySet()) {
+            String[] segments = entry.getKey().substring(1).split("/");
+            ObjectNode parent = content;
+            for (int i = 0; i < segments.length - 1; i++) {
+                JsonNode child = parent.get(segments[i]);
+                parent = child instanceof ObjectNode object ? object : parent.putObject(segments[i]);
+            }
+            parent.set(segments[segments.length - 1], parse(entry.getValue()));
+        }
+        return content;
+    }
+
+    @Transactional(readOnly = true)
+    public ResumeRevisionDiff diff(@NonNull Long resumeId, int from, int to) {
+        SortedMap<String, String> before = readState(resumeId, from);
+        SortedMap<String, String> after = readState(resumeId, to);
+
+        List<ResumeRevisionDiff.Change> changes = new ArrayList<>();
+        TreeSet<String> paths = new TreeSet<>(before.keySet());
+        paths.addAll(after.keySet());
+        for (String path : paths) {
+            String oldValue = before.get(path);
+            String newValue = after.get(path);
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.add(new ResumeRevisionDiff.Change(path,
+                        oldValue != null ? parse(oldValue) : null,
+                        newValue != null ? parse(newValue) : null));
+            }
+        }
+        return new ResumeRevisionDiff(from, to, changes);
+    }
+
+    /**
+     * Rebuilds a revision from the nearest full snapshot at or above it
+     */
+    private SortedMap<String, String> readState(Long resumeId, int revision) {
+        Objects.requireNonNull(resumeId, "Resume ID must not be null");
+        ResumeRevision full = revisionRepository
+                .findFirstByResumeIdAndFullTrueAndRevisionGreaterThanEqualOrderByRevisionAsc(resumeId, revision)
+                .orElseThrow(() -> new IllegalArgumentException("Revision not found"));
+
+        SortedMap<String, String> state = new TreeMap<>();
+        List<ResumeRevision> chain = revisionRepository
+                .findByResumeIdAndRevisionBetweenOrderByRevisionDesc(resumeId, revision, full.getRevision());
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getRevision() != revision) {
+            throw new IllegalArgumentException("Revision not found");
+        }
+        for (ResumeRevision step : chain) {
+            RevisionCodec.apply(step.getData(), state);
+        }
+        return state;
+    }
+
+    private SortedMap<String, String> flatten(Resume resume) {
+        SortedMap<String, String> state = new TreeMap<>();
+        flatten(snapshotMapper.valueToTree(resume), "", state);
+        return state;
+    }
+
+    private static void flatten(JsonNode node, String path, Map<String, String> state) {
+        if (node.isObject()) {
+            node.properties().forEach(field -> flatten(field.getValue(), path + "/" + field.getKey(), state));
+        } else if (node.isArray() && isKeyedById(node)) {
+            // Keyed by id so inserting or reordering one entry does not shift the paths of the others
+            for (JsonNode entry : node) {
+                String entryPath = path + "/" + entry.get("id").asText();
+                entry.properties().forEach(field -> {
+                    if (!field.getKey().equals("id")) {
+                        flatten(field.getValue(), entryPath + "/" + field.getKey(), state);
+                    }
+                });
+            }
+        } else if (!node.isNull()) {
+            state.put(path, node.toString());
+        }
+    }
+
+    private static boolean isKeyedById(JsonNode array) {
+        for (JsonNode element : array) {
+            if (!element.isObject() || !element.hasNonNull("id")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private JsonNode parse(String value) {
+        try {
+            return snapshotMapper.readTree(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt revision value", e);
+        }
+    }
+}
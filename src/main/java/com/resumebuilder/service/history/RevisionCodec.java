@@ -0,0 +1,103 @@
+package com.resumebuilder.service.history;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary form of revision data: a list of path/value assignments followed by a list of removed
+ * paths, deflate-compressed. A full snapshot is every path of a state as an assignment; a delta
+ * holds only the paths that differ between two states.
+ */
+final class RevisionCodec {
+
+    private static final int FORMAT = 1;
+
+    private RevisionCodec() {
+    }
+
+    static byte[] full(Map<String, String> state) {
+        return encode(state, List.of());
+    }
+
+    /**
+     * Encodes the changes that turn {@code from} into {@code to}
+     */
+    static byte[] delta(Map<String, String> from, Map<String, String> to) {
+        Map<String, String> assignments = new TreeMap<>();
+        for (Map.Entry<String, String> entry : to.entrySet()) {
+            if (!entry.getValue().equals(from.get(entry.getKey()))) {
+                assignments.put(entry.getKey(), entry.getValue());
+            }
+        }
+        List<String> removals = new ArrayList<>();
+        for (String path : from.keySet()) {
+            if (!to.containsKey(path)) {
+                removals.add(path);
+            }
+        }
+        return encode(assignments, removals);
+    }
+
+    /**
+     * Applies full snapshot or delta data to the given state in place
+     */
+    static void apply(byte[] data, Map<String, String> state) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))) {
+            int format = in.readUnsignedByte();
+            if (format != FORMAT) {
+                throw new IllegalStateException("Unsupported revision format " + format);
+            }
+            int assignments = in.readInt();
+            for (int i = 0; i < assignments; i++) {
+                String path = in.readUTF();
+                byte[] value = new byte[in.readInt()];
+                in.readFully(value);
+                state.put(path, new String(value, StandardCharsets.UTF_8));
+            }
+            int removals = in.readInt();
+            for (int i = 0; i < removals; i++) {
+                state.remove(in.readUTF());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt revision data", e);
+        }
+    }
+
+    private static byte[] encode(Map<String, String> assignments, Collection<String> removals) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            out.writeByte(FORMAT);
+            out.writeInt(assignments.size());
+            for (Map.Entry<String, String> entry : assignments.entrySet()) {
+                out.writeUTF(entry.getKey());
+                // Values can exceed writeUTF's 64 KB limit
+                byte[] value = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(value.length);
+                out.write(value);
+            }
+            out.writeInt(removals.size());
+            for (String path : removals) {
+                out.writeUTF(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -1,14 +1,19 @@
 package com.resumebuilder.service.importer;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.resumebuilder.model.Education;
 import com.resumebuilder.model.PersonalInfo;
 import com.resumebuilder.model.Project;
@@ -20,228 +25,355 @@ import com.resumebuilder.model.WorkExperience;
 /**
  * Service for importing resume data from JSON Resume format
  * Specification: https://jsonresume.org/schema/
+ *
+ * Documents are read token by token with a streaming {@link JsonParser} and mapped straight into
+ * entities, so no JSON tree is built and an input stream of many resumes (NDJSON, or any sequence of
+ * root-level objects) is never held in memory as a whole. The same documents are also accepted
+ * CBOR-encoded, where a stream of many resumes is a CBOR sequence.
  */
 @Service
 public class JsonResumeImporter {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    public Resume importFromJson(String jsonContent) throws IOException {
-        JsonNode root = objectMapper.readTree(jsonContent);
+    /**
+     * Encodings an input stream of JSON Resume documents may use
+     */
+    public enum Encoding {
+        JSON, CBOR
+    }
 
-        Resume resume = Resume.builder()
-                .title("Imported Resume")
-                .templateName("professional")
-                .active(true)
-                .settings(ResumeSettings.builder().build())
-                .build();
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final CBORFactory cborFactory = new CBORFactory();
 
-        // Import basics (personal info)
-        if (root.has("basics")) {
-            PersonalInfo pi = importBasics(root.get("basics"));
-            resume.setPersonalInfo(pi);
+    public Resume importFromJson(String jsonContent) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(jsonContent)) {
+            return readSingle(parser);
         }
+    }
 
-        // Import summary
-        if (root.has("summary")) {
-            resume.setProfessionalSummary(root.get("summary").asText());
+    /**
+     * Imports a single resume document from the stream. The stream is not closed.
+     */
+    public Resume importFromJson(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return readSingle(parser);
         }
+    }
 
-        // Import work experience
-        if (root.has("work")) {
-            List<WorkExperience> experiences = importWork(root.get("work"));
-            experiences.forEach(resume::addWorkExperience);
-        }
+    /**
+     * Imports every resume in the stream, one per root-level object as in NDJSON, handing each to
+     * the consumer as soon as it has been read. The stream is not closed.
+     *
+     * @return the number of resumes imported
+     */
+    public int importAll(InputStream in, Consumer<Resume> consumer) throws IOException {
+        return importAll(in, Encoding.JSON, consumer);
+    }
 
-        // Import education
-        if (root.has("education")) {
-            List<Education> educations = importEducation(root.get("education"));
-            educations.forEach(resume::addEducation);
+    /**
+     * Imports every resume in a stream of the given encoding, as {@link #importAll(InputStream, Consumer)}
+     */
+    public int importAll(InputStream in, Encoding encoding, Consumer<Resume> consumer) throws IOException {
+        int count = 0;
+        JsonFactory factory = encoding == Encoding.CBOR ? cborFactory : jsonFactory;
+        try (JsonParser parser = factory.createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                expect(parser, token, JsonToken.START_OBJECT);
+                consumer.accept(readResume(parser));
+                count++;
+            }
         }
+        return count;
+    }
 
-        // Import skills
-        if (root.has("skills")) {
-            List<Skill> skills = importSkills(root.get("skills"));
-            skills.forEach(resume::addSkill);
-        }
+    private Resume readSingle(JsonParser parser) throws IOException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        return readResume(parser);
+    }
 
-        // Import projects
-        if (root.has("projects")) {
-            List<Project> projects = importProjects(root.get("projects"));
-            projects.forEach(resume::addProject);
+    private Resume readResume(JsonParser parser) throws IOException {
+        Resume resume = Resume.builder()
+                .title("Imported Resume")
+                .templateName("professional")
+                .active(true)
+                .settings(ResumeSettings.builder().build())
+                .build();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                // Import basics (personal info)
+                case "basics" -> {
+                    if (value == JsonToken.START_OBJECT) resume.setPersonalInfo(readBasics(parser));
+                    else parser.skipChildren();
+                }
+                // Import summary
+                case "summary" -> resume.setProfessionalSummary(text(parser));
+                // Import work experience
+                case "work" -> forEachObject(parser, () -> resume.addWorkExperience(readWork(parser)));
+                // Import education
+                case "education" -> forEachObject(parser, () -> resume.addEducation(readEducation(parser)));
+                // Import skills
+                case "skills" -> {
+                    int[] displayOrder = {0};
+                    forEachObject(parser, () -> readSkillGroup(parser, displayOrder).forEach(resume::addSkill));
+                }
+                // Import projects
+                case "projects" -> forEachObject(parser, () -> resume.addProject(readProject(parser)));
+                default -> parser.skipChildren();
+            }
         }
 
         return resume;
     }
 
-    private PersonalInfo importBasics(JsonNode basics) {
+    private PersonalInfo readBasics(JsonParser parser) throws IOException {
         PersonalInfo.PersonalInfoBuilder builder = PersonalInfo.builder();
 
-        if (basics.has("name")) {
-            String[] nameParts = basics.get("name").asText().split(" ", 2);
-            builder.firstName(nameParts[0]);
-            if (nameParts.length > 1) {
-                builder.lastName(nameParts[1]);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "name" -> {
+                    String[] nameParts = text(parser).split(" ", 2);
+                    builder.firstName(nameParts[0]);
+                    if (nameParts.length > 1) {
+                        builder.lastName(nameParts[1]);
+                    }
+                }
+                case "email" -> builder.email(text(parser));
+                case "phone" -> builder.phone(text(parser));
+                case "url" -> builder.websiteUrl(text(parser));
+                case "location" -> forEachField(parser, locationField -> {
+                    switch (locationField) {
+                        case "address" -> builder.address(text(parser));
+                        case "city" -> builder.city(text(parser));
+                        case "region" -> builder.state(text(parser));
+                        case "postalCode" -> builder.zipCode(text(parser));
+                        case "countryCode" -> builder.country(text(parser));
+                        default -> parser.skipChildren();
+                    }
+                });
+                case "profiles" -> forEachObject(parser, () -> {
+                    String[] network = {""};
+                    String[] url = {""};
+                    forEachField(parser, profileField -> {
+                        switch (profileField) {
+                            case "network" -> network[0] = text(parser).toLowerCase();
+                            case "url" -> url[0] = text(parser);
+                            default -> parser.skipChildren();
+                        }
+                    });
+
+                    switch (network[0]) {
+                        case "linkedin" -> builder.linkedinUrl(url[0]);
+                        case "github" -> builder.githubUrl(url[0]);
+                        default -> {} // No-op for other networks
+                    }
+                });
+                default -> parser.skipChildren();
             }
         }
 
-        if (basics.has("email")) builder.email(basics.get("email").asText());
-        if (basics.has("phone")) builder.phone(basics.get("phone").asText());
-        if (basics.has("url")) builder.websiteUrl(basics.get("url").asText());
-
-        if (basics.has("location")) {
-            JsonNode location = basics.get("location");
-            if (location.has("address")) builder.address(location.get("address").asText());
-            if (location.has("city")) builder.city(location.get("city").asText());
-            if (location.has("region")) builder.state(location.get("region").asText());
-            if (location.has("postalCode")) builder.zipCode(location.get("postalCode").asText());
-            if (location.has("countryCode")) builder.country(location.get("countryCode").asText());
-        }
-
-        if (basics.has("profiles")) {
-            for (JsonNode profile : basics.get("profiles")) {
-                String network = profile.has("network") ? profile.get("network").asText().toLowerCase() : "";
-                String url = profile.has("url") ? profile.get("url").asText() : "";
+        return builder.build();
+    }
 
-                switch (network) {
-                    case "linkedin" -> builder.linkedinUrl(url);
-                    case "github" -> builder.githubUrl(url);
-                    default -> {} // No-op for other networks
+    private WorkExperience readWork(JsonParser parser) throws IOException {
+        WorkExperience.WorkExperienceBuilder builder = WorkExperience.builder();
+
+        forEachField(parser, field -> {
+            switch (field) {
+                case "position" -> builder.jobTitle(text(parser));
+                case "name" -> builder.company(text(parser));
+                case "location" -> builder.location(text(parser));
+                case "startDate" -> builder.startDate(LocalDate.parse(text(parser)));
+                case "endDate" -> {
+                    String endDate = text(parser);
+                    if (!endDate.isEmpty() && !endDate.equalsIgnoreCase("present")) {
+                        builder.endDate(LocalDate.parse(endDate));
+                        builder.current(false);
+                    } else {
+                        builder.current(true);
+                    }
                 }
+                case "summary" -> builder.description(text(parser));
+                case "highlights" -> builder.responsibilities(lines(parser));
+                default -> parser.skipChildren();
             }
-        }
+        });
 
         return builder.build();
     }
 
-    private List<WorkExperience> importWork(JsonNode workArray) {
-        List<WorkExperience> experiences = new ArrayList<>();
-
-        for (JsonNode work : workArray) {
-            WorkExperience.WorkExperienceBuilder builder = WorkExperience.builder();
-
-            if (work.has("position")) builder.jobTitle(work.get("position").asText());
-            if (work.has("name")) builder.company(work.get("name").asText());
-            if (work.has("location")) builder.location(work.get("location").asText());
-            if (work.has("startDate")) builder.startDate(LocalDate.parse(work.get("startDate").asText()));
-            if (work.has("endDate")) {
-                String endDate = work.get("endDate").asText();
-                if (!endDate.isEmpty() && !endDate.equalsIgnoreCase("present")) {
-                    builder.endDate(LocalDate.parse(endDate));
-                    builder.current(false);
-                } else {
-                    builder.current(true);
+    private Education readEducation(JsonParser parser) throws IOException {
+        Education.EducationBuilder builder = Education.builder();
+
+        forEachField(parser, field -> {
+            switch (field) {
+                case "studyType" -> builder.degree(text(parser));
+                case "area" -> builder.fieldOfStudy(text(parser));
+                case "institution" -> builder.institution(text(parser));
+                case "startDate" -> builder.startDate(LocalDate.parse(text(parser)));
+                case "endDate" -> {
+                    String endDate = text(parser);
+                    if (!endDate.isEmpty() && !endDate.equalsIgnoreCase("present")) {
+                        builder.endDate(LocalDate.parse(endDate));
+                        builder.current(false);
+                    } else {
+                        builder.current(true);
+                    }
                 }
-            }
-            if (work.has("summary")) builder.description(work.get("summary").asText());
-            if (work.has("highlights")) {
-                StringBuilder highlights = new StringBuilder();
-                for (JsonNode highlight : work.get("highlights")) {
-                    highlights.append(highlight.asText()).append("\n");
+                case "score" -> {
+                    try {
+                        builder.gpa(Double.valueOf(text(parser)));
+                    } catch (NumberFormatException e) {
+                        // Ignore invalid GPA
+                    }
                 }
-                builder.responsibilities(highlights.toString());
+                default -> parser.skipChildren();
             }
+        });
 
-            experiences.add(builder.build());
-        }
-
-        return experiences;
+        return builder.build();
     }
 
-    private List<Education> importEducation(JsonNode educationArray) {
-        List<Education> educations = new ArrayList<>();
+    private List<Skill> readSkillGroup(JsonParser parser, int[] displayOrder) throws IOException {
+        // Keywords may come before the group name, so collect them first
+        String[] category = {"Other"};
+        List<String> keywords = new ArrayList<>();
 
-        for (JsonNode edu : educationArray) {
-            Education.EducationBuilder builder = Education.builder();
+        forEachField(parser, field -> {
+            switch (field) {
+                case "name" -> category[0] = text(parser);
+                case "keywords" -> forEachValue(parser, () -> keywords.add(text(parser)));
+                default -> parser.skipChildren();
+            }
+        });
+
+        List<Skill> skills = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            Skill skill = Skill.builder()
+                    .name(keyword)
+                    .category(category[0])
+                    .displayOrder(displayOrder[0]++)
+                    .visible(true)
+                    .build();
+            skills.add(skill);
+        }
+        return skills;
+    }
 
-            if (edu.has("studyType")) builder.degree(edu.get("studyType").asText());
-            if (edu.has("area")) builder.fieldOfStudy(edu.get("area").asText());
-            if (edu.has("institution")) builder.institution(edu.get("institution").asText());
-            if (edu.has("startDate")) builder.startDate(LocalDate.parse(edu.get("startDate").asText()));
-            if (edu.has("endDate")) {
-                String endDate = edu.get("endDate").asText();
-                if (!endDate.isEmpty() && !endDate.equalsIgnoreCase("present")) {
-                    builder.endDate(LocalDate.parse(endDate));
-                    builder.current(false);
-                } else {
-                    builder.current(true);
+    private Project readProject(JsonParser parser) throws IOException {
+        Project.ProjectBuilder builder = Project.builder();
+
+        forEachField(parser, field -> {
+            switch (field) {
+                case "name" -> builder.name(text(parser));
+                case "description" -> builder.description(text(parser));
+                case "url" -> builder.projectUrl(text(parser));
+                case "startDate" -> builder.startDate(LocalDate.parse(text(parser)));
+                case "endDate" -> {
+                    String endDate = text(parser);
+                    if (!endDate.isEmpty() && !endDate.equalsIgnoreCase("present")) {
+                        builder.endDate(LocalDate.parse(endDate));
+                        builder.current(false);
+                    } else {
+                        builder.current(true);
+                    }
                 }
-            }
-            if (edu.has("score")) {
-                try {
-                    builder.gpa(Double.valueOf(edu.get("score").asText()));
-                } catch (NumberFormatException e) {
-                    // Ignore invalid GPA
+                case "keywords" -> {
+                    StringBuilder tech = new StringBuilder();
+                    forEachValue(parser, () -> {
+                        if (tech.length() > 0) tech.append(", ");
+                        tech.append(text(parser));
+                    });
+                    builder.technologies(tech.toString());
                 }
+                case "highlights" -> builder.highlights(lines(parser));
+                default -> parser.skipChildren();
             }
+        });
 
-            educations.add(builder.build());
-        }
-
-        return educations;
+        return builder.build();
     }
 
-    private List<Skill> importSkills(JsonNode skillsArray) {
-        List<Skill> skills = new ArrayList<>();
-        int displayOrder = 0;
+    @FunctionalInterface
+    private interface TokenAction {
+        void run() throws IOException;
+    }
 
-        for (JsonNode skillGroup : skillsArray) {
-            String category = skillGroup.has("name") ? skillGroup.get("name").asText() : "Other";
+    @FunctionalInterface
+    private interface FieldAction {
+        void accept(String field) throws IOException;
+    }
 
-            if (skillGroup.has("keywords")) {
-                for (JsonNode keyword : skillGroup.get("keywords")) {
-                    Skill skill = Skill.builder()
-                            .name(keyword.asText())
-                            .category(category)
-                            .displayOrder(displayOrder++)
-                            .visible(true)
-                            .build();
-                    skills.add(skill);
-                }
-            }
+    /**
+     * Calls the action with the parser on each field value of the current object; a non-object value is skipped
+     */
+    private static void forEachField(JsonParser parser, FieldAction action) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            action.accept(field);
         }
-
-        return skills;
     }
 
-    private List<Project> importProjects(JsonNode projectsArray) {
-        List<Project> projects = new ArrayList<>();
-
-        for (JsonNode proj : projectsArray) {
-            Project.ProjectBuilder builder = Project.builder();
+    /**
+     * Calls the action with the parser on each element of the current array; a non-array value is skipped
+     */
+    private static void forEachValue(JsonParser parser, TokenAction action) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            action.run();
+        }
+    }
 
-            if (proj.has("name")) builder.name(proj.get("name").asText());
-            if (proj.has("description")) builder.description(proj.get("description").asText());
-            if (proj.has("url")) builder.projectUrl(proj.get("url").asText());
-            if (proj.has("startDate")) builder.startDate(LocalDate.parse(proj.get("startDate").asText()));
-            if (proj.has("endDate")) {
-                String endDate = proj.get("endDate").asText();
-                if (!endDate.isEmpty() && !endDate.equalsIgnoreCase("present")) {
-                    builder.endDate(LocalDate.parse(endDate));
-                    builder.current(false);
-                } else {
-                    builder.current(true);
-                }
-            }
-            if (proj.has("keywords")) {
-                StringBuilder tech = new StringBuilder();
-                for (JsonNode keyword : proj.get("keywords")) {
-                    if (tech.length() > 0) tech.append(", ");
-                    tech.append(keyword.asText());
-                }
-                builder.technologies(tech.toString());
-            }
-            if (proj.has("highlights")) {
-                StringBuilder highlights = new StringBuilder();
-                for (JsonNode highlight : proj.get("highlights")) {
-                    highlights.append(highlight.asText()).append("\n");
-                }
-                builder.highlights(highlights.toString());
+    /**
+     * Like {@link #forEachValue} for arrays of objects; other elements are skipped
+     */
+    private static void forEachObject(JsonParser parser, TokenAction action) throws IOException {
+        forEachValue(parser, () -> {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                action.run();
+            } else {
+                parser.skipChildren();
             }
+        });
+    }
 
-            projects.add(builder.build());
+    /**
+     * Text of the current scalar value (numbers and booleans as written); empty for objects and arrays
+     */
+    private static String text(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return "";
         }
+        return parser.getValueAsString("");
+    }
+
+    /**
+     * The elements of the current array as newline-terminated lines
+     */
+    private static String lines(JsonParser parser) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        forEachValue(parser, () -> lines.append(text(parser)).append("\n"));
+        return lines.toString();
+    }
 
-        return projects;
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
     }
 }
@@ -0,0 +1,88 @@
+package com.resumebuilder.service.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.User;
+import com.resumebuilder.repository.ResumeRepository;
+import com.resumebuilder.service.UserService;
+import com.resumebuilder.service.importer.JsonResumeImporter.Encoding;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Imports JSON Resume documents for a user and persists them in batches.
+ *
+ * Resumes are parsed one at a time from the stream and saved {@code batchSize} at a time, each batch
+ * in its own transaction, so a file of thousands of resumes is never held in memory and the persistence
+ * context is cleared after every batch. Inserts within a batch are grouped into JDBC batches according
+ * to {@code hibernate.jdbc.batch_size}.
+ */
+@Service
+public class ResumeImportService {
+
+    private final JsonResumeImporter importer;
+    private final ResumeRepository resumeRepository;
+    private final UserService userService;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public ResumeImportService(JsonResumeImporter importer,
+                               ResumeRepository resumeRepository,
+                               UserService userService,
+                               EntityManager entityManager,
+                               @Value("${app.resume.import.batch-size:50}") int batchSize) {
+        this.importer = importer;
+        this.resumeRepository = resumeRepository;
+        this.userService = userService;
+        this.entityManager = entityManager;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Imports every resume in the stream (a single JSON Resume document or NDJSON) for the user.
+     * Batches saved before a malformed document is reached stay imported. The stream is not closed.
+     *
+     * @return the number of resumes imported
+     */
+    public int importAll(@NonNull Long userId, InputStream in) throws IOException {
+        return importAll(userId, in, Encoding.JSON);
+    }
+
+    /**
+     * Imports every resume in a stream of the given encoding, as {@link #importAll(Long, InputStream)}
+     */
+    public int importAll(@NonNull Long userId, InputStream in, Encoding encoding) throws IOException {
+        User user = userService.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        List<Resume> batch = new ArrayList<>(batchSize);
+        int count = importer.importAll(in, encoding, resume -> {
+            resume.setUser(user);
+            batch.add(resume);
+            if (batch.size() >= batchSize) {
+                saveBatch(batch);
+            }
+        });
+        saveBatch(batch);
+        return count;
+    }
+
+    private void saveBatch(List<Resume> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // saveAll runs in its own transaction, which flushes the whole batch together
+        resumeRepository.saveAll(batch);
+        batch.clear();
+        // With open-session-in-view the persistence context outlives the transaction, so detach explicitly
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,420 @@
+package com.resumebuilder.service.share;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumebuilder.dto.ResumeResponse;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.ResumeChangedEvent;
+import com.resumebuilder.service.ResumeService;
+import com.resumebuilder.service.export.ExportCacheService;
+import com.resumebuilder.service.export.ExportCacheService.ExportKey;
+import com.resumebuilder.service.export.ExportFormat;
+import com.resumebuilder.service.export.HtmlExportService;
+import com.resumebuilder.service.export.PdfExportService;
+
+/**
+ * Read-through cache of the public views of shared resumes, keyed by share token.
+ *
+ * An entry holds the resume serialized to JSON and, once first requested, its rendered PDF and its
+ * public HTML page (stored both plain and gzip-compressed), so repeated views of a share link are
+ * answered from bytes prepared in advance, without a database query. Entries are LRU-evicted
+ * beyond {@code app.resume.share-cache.max-memory-bytes}, expire after
+ * {@code app.resume.share-cache.idle-minutes} without a view, and are dropped as soon as a change
+ * to their resume commits. That includes disabling or regenerating the share link. Concurrent
+ * misses on one token share a single load, so a link that goes viral is read from the database once.
+ */
+@Service
+public class SharedResumeCache {
+
+    /**
+     * A cached response body with its entity tag
+     */
+    public record Payload(byte[] body, String etag) {
+    }
+
+    private enum Artifact {
+        JSON, PDF, HTML;
+
+        boolean isIn(Entry entry) {
+            return switch (this) {
+                case JSON -> true;
+                case PDF -> entry.pdf != null;
+                case HTML -> entry.html != null;
+            };
+        }
+    }
+
+    private record LoadKey(String token, Artifact artifact) {
+    }
+
+    /**
+     * A load in flight, guarded by the cache lock
+     */
+    private static final class Load {
+        private final CompletableFuture<Entry> result = new CompletableFuture<>();
+        // The invalidation count when the load started
+        private final long startedAt;
+        // Known once the resume has been read, or from the start when an entry was cached
+        private Long resumeId;
+
+        private Load(long startedAt, Long resumeId) {
+            this.startedAt = startedAt;
+            this.resumeId = resumeId;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Loader {
+        /**
+         * Builds the entry to store from the loaded resume and the cached entry lacking the artifact, if any
+         */
+        Entry load(Resume resume, Entry cached) throws IOException;
+    }
+
+    private static final class Entry {
+        private final Long resumeId;
+        private final Payload json;
+        // Set before the entry is stored and never changed afterwards
+        private Payload pdf;
+        private Payload html;
+        private Payload htmlGzip;
+        private long lastAccessNanos;
+
+        private Entry(Long resumeId, Payload json) {
+            this.resumeId = resumeId;
+            this.json = json;
+        }
+
+        /**
+         * A new entry replaces the stored one when an artifact is added, so the cache accounts for its bytes
+         */
+        private Entry copy() {
+            Entry copy = new Entry(resumeId, json);
+            copy.pdf = pdf;
+            copy.html = html;
+            copy.htmlGzip = htmlGzip;
+            return copy;
+        }
+
+        private long size() {
+            return json.body().length + length(pdf) + length(html) + length(htmlGzip);
+        }
+
+        private static long length(Payload payload) {
+            return payload != null ? payload.body().length : 0;
+        }
+    }
+
+    private final ResumeService resumeService;
+    private final PdfExportService pdfExportService;
+    private final HtmlExportService htmlExportService;
+    private final ExportCacheService exportCacheService;
+    private final ObjectMapper objectMapper;
+    private final long maxMemoryBytes;
+    private final long idleNanos;
+
+    // Access-ordered, so the eldest entry is both the least recently used and the longest idle
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Set<String>> tokensByResume = new HashMap<>();
+    private long memoryBytes;
+    // Counts invalidations. A load must not store what it read if its resume was invalidated
+    // after the load started, so the count of each resume's last invalidation is kept while
+    // any load is running.
+    private long invalidations;
+    private final Map<Long, Long> invalidatedAt = new HashMap<>();
+    private int runningLoads;
+    private final Map<LoadKey, Load> loads = new HashMap<>();
+
+    public SharedResumeCache(ResumeService resumeService,
+                             PdfExportService pdfExportService,
+                             HtmlExportService htmlExportService,
+                             ExportCacheService exportCacheService,
+                             ObjectMapper objectMapper,
+                             @Value("${app.resume.share-cache.max-memory-bytes:33554432}") long maxMemoryBytes,
+                             @Value("${app.resume.share-cache.idle-minutes:30}") long idleMinutes) {
+        this.resumeService = resumeService;
+        this.pdfExportService = pdfExportService;
+        this.htmlExportService = htmlExportService;
+        this.exportCacheService = exportCacheService;
+        this.objectMapper = objectMapper;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.idleNanos = Duration.ofMinutes(idleMinutes).toNanos();
+    }
+
+    /**
+     * The shared resume as JSON; empty when the token is unknown or sharing is disabled
+     */
+    public Optional<Payload> json(String token) {
+        if (token == null) return Optional.empty();
+
+        try {
+            return Optional.ofNullable(entry(token, Artifact.JSON, (resume, cached) -> newEntry(resume)))
+                    .map(entry -> entry.json);
+        } catch (IOException e) {
+            // Only rendering the PDF or the page does I/O
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The shared resume rendered as PDF; empty when the token is unknown or sharing is disabled.
+     * The first request for a token renders, later ones are served from the entry.
+     */
+    public Optional<Payload> pdf(String token) throws IOException {
+        if (token == null) return Optional.empty();
+
+        return Optional.ofNullable(entry(token, Artifact.PDF, (resume, cached) -> {
+            ExportKey key = exportCacheService.keyFor(resume, ExportFormat.PDF);
+            Entry updated = cached != null ? cached.copy() : newEntry(resume);
+            updated.pdf = new Payload(
+                    exportCacheService.getOrRender(key, () -> pdfExportService.exportToPdf(resume)), key.etag());
+            return updated;
+        })).map(entry -> entry.pdf);
+    }
+
+    /**
+     * The shared resume's public HTML page, gzip-compressed if requested; empty when the token is
+     * unknown or sharing is disabled. Both encodings are prepared on the first request for a token.
+     */
+    public Optional<Payload> html(String token, boolean gzip) throws IOException {
+        if (token == null) return Optional.empty();
+
+        return Optional.ofNullable(entry(token, Artifact.HTML, (resume, cached) -> {
+            Entry updated = cached != null ? cached.copy() : newEntry(resume);
+            byte[] html = htmlExportService.exportToHtml(resume).getBytes(StandardCharsets.UTF_8);
+            String digest = digest(html);
+            // Strong tags must differ between encodings of the same page
+            updated.html = new Payload(html, "\"" + digest + "\"");
+            updated.htmlGzip = new Payload(gzip(html), "\"" + digest + "-gzip\"");
+            return updated;
+        })).map(entry -> gzip ? entry.htmlGzip : entry.html);
+    }
+
+    /**
+     * Drops every cached view of the given resume
+     */
+    public synchronized void invalidate(Long resumeId) {
+        invalidations++;
+        if (runningLoads > 0) {
+            invalidatedAt.put(resumeId, invalidations);
+        }
+        Set<String> tokens = tokensByResume.remove(resumeId);
+        if (tokens != null) {
+            for (String token : tokens) {
+                Entry removed = entries.remove(token);
+                if (removed != null) {
+                    memoryBytes -= removed.size();
+                }
+            }
+        }
+        // A load of this resume in flight may have read the old state; later requests must not
+        // wait for it. Loads of other resumes are unaffected.
+        loads.entrySet().removeIf(load -> resumeId.equals(load.getValue().resumeId)
+                || (tokens != null && tokens.contains(load.getKey().token())));
+    }
+
+    /**
+     * Runs once the change is committed, so a concurrent view cannot cache the state it replaced
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeChanged(ResumeChangedEvent event) {
+        if (event.resumeId() != null) {
+            invalidate(event.resumeId());
+        }
+    }
+
+    private synchronized Entry lookup(String token) {
+        long now = System.nanoTime();
+        evictIdle(now);
+        Entry entry = entries.get(token);
+        if (entry != null) {
+            entry.lastAccessNanos = now;
+        }
+        return entry;
+    }
+
+    /**
+     * The entry for a token holding the artifact, or null when the token is unknown or sharing is
+     * disabled. On a miss, one caller loads the resume and builds the artifact while concurrent
+     * callers for the same token and artifact wait for its result.
+     */
+    private Entry entry(String token, Artifact artifact, Loader loader) throws IOException {
+        LoadKey key = new LoadKey(token, artifact);
+        Load load;
+        boolean owner;
+        Entry cached;
+        synchronized (this) {
+            cached = lookup(token);
+            if (cached != null && artifact.isIn(cached)) {
+                return cached;
+            }
+            load = loads.get(key);
+            owner = load == null;
+            if (owner) {
+                // Started together with the lookup, so an invalidation after it keeps the entry from being stored
+                load = new Load(invalidations, cached != null ? cached.resumeId : null);
+                loads.put(key, load);
+                runningLoads++;
+            }
+        }
+        if (!owner) {
+            return await(load.result);
+        }
+
+        try {
+            Optional<Resume> resume = resumeService.findByShareToken(token);
+            if (resume.isPresent()) {
+                loading(key, load, resume.get().getId());
+            }
+            Entry loaded = resume.isPresent() ? loader.load(resume.get(), cached) : null;
+            if (loaded != null) {
+                store(token, loaded, load.startedAt);
+            }
+            load.result.complete(loaded);
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            load.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            synchronized (this) {
+                loads.remove(key, load);
+                if (--runningLoads == 0) {
+                    invalidatedAt.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Records which resume a load is reading. If that resume was invalidated after the load
+     * started, later requests stop waiting for the load.
+     */
+    private synchronized void loading(LoadKey key, Load load, Long resumeId) {
+        load.resumeId = resumeId;
+        if (invalidatedAt.getOrDefault(resumeId, 0L) > load.startedAt) {
+            loads.remove(key, load);
+        }
+    }
+
+    private static Entry await(CompletableFuture<Entry> load) throws IOException {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private Entry newEntry(Resume resume) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ResumeResponse.of(resume));
+            return new Entry(resume.getId(), new Payload(json, "\"" + digest(json) + "\""));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize shared resume " + resume.getId(), e);
+        }
+    }
+
+    /**
+     * Tags a body by its bytes, since section changes do not bump the resume version
+     */
+    private static String digest(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        // Compressed once per entry, so the slowest level is worth it
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Stores or resizes the entry, unless its resume was invalidated after the load started
+     */
+    private synchronized void store(String token, Entry entry, long startedAt) {
+        if (invalidatedAt.getOrDefault(entry.resumeId, 0L) > startedAt) {
+            return;
+        }
+
+        Entry previous = entries.remove(token);
+        if (previous != null) {
+            memoryBytes -= previous.size();
+        }
+        if (entry.size() > maxMemoryBytes) {
+            return;
+        }
+
+        entry.lastAccessNanos = System.nanoTime();
+        entries.put(token, entry);
+        memoryBytes += entry.size();
+        tokensByResume.computeIfAbsent(entry.resumeId, id -> new HashSet<>()).add(token);
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+            evict(eldest, eldest.next());
+        }
+    }
+
+    private void evictIdle(long now) {
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (eldest.hasNext()) {
+            Map.Entry<String, Entry> candidate = eldest.next();
+            if (now - candidate.getValue().lastAccessNanos < idleNanos) {
+                return;
+            }
+            evict(eldest, candidate);
+        }
+    }
+
+    private void evict(Iterator<Map.Entry<String, Entry>> iterator, Map.Entry<String, Entry> evicted) {
+        iterator.remove();
+        memoryBytes -= evicted.getValue().size();
+        Set<String> tokens = tokensByResume.get(evicted.getValue().resumeId);
+        if (tokens != null) {
+            tokens.remove(evicted.getKey());
+            if (tokens.isEmpty()) {
+                tokensByResume.remove(evicted.getValue().resumeId);
+            }
+        }
+    }
+}
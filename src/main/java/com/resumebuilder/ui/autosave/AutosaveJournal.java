@@ -0,0 +1,127 @@
+package com.resumebuilder.ui.autosave;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumebuilder.dto.ResumeEdit;
+
+/**
+ * Local copy of the edits the autosaver has not written to the database yet, one file per resume.
+ *
+ * Writes happen on a background thread; when several are requested while one is running, only the
+ * latest is written. Each write replaces the file atomically, so a crash leaves either the previous
+ * or the new journal, never a torn one. {@link #shutdown()} waits for the queued writes, and writes
+ * requested after it happen on the caller's thread.
+ */
+class AutosaveJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(AutosaveJournal.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autosave-journal");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Long, ResumeEdit> latest = new HashMap<>();
+
+    AutosaveJournal(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Records the pending edit of a resume, or removes its journal when the edit is empty
+     */
+    void write(Long resumeId, ResumeEdit edit) {
+        boolean scheduled;
+        synchronized (latest) {
+            scheduled = latest.containsKey(resumeId);
+            latest.put(resumeId, edit);
+        }
+        if (!scheduled) {
+            try {
+                writer.execute(() -> storeLatest(resumeId));
+            } catch (RejectedExecutionException e) {
+                storeLatest(resumeId);
+            }
+        }
+    }
+
+    Optional<ResumeEdit> read(Long resumeId) {
+        Path file = file(resumeId);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(file.toFile(), ResumeEdit.class));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable autosave journal {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stops the writer once the queued writes are on disk, so the pending edit of the open resume
+     * survives the application exiting; the writer thread is a daemon and would otherwise be killed
+     */
+    void shutdown() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Autosave journal writes did not finish within {} seconds", SHUTDOWN_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void storeLatest(Long resumeId) {
+        ResumeEdit next;
+        synchronized (latest) {
+            next = latest.remove(resumeId);
+        }
+        if (next != null) {
+            store(resumeId, next);
+        }
+    }
+
+    private void store(Long resumeId, ResumeEdit edit) {
+        Path file = file(resumeId);
+        try {
+            if (isEmpty(edit)) {
+                Files.deleteIfExists(file);
+                return;
+            }
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), edit);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write autosave journal {}", file, e);
+        }
+    }
+
+    static boolean isEmpty(ResumeEdit edit) {
+        return edit.fields().isEmpty() && edit.sections().isEmpty();
+    }
+
+    private Path file(Long resumeId) {
+        return directory.resolve("resume-" + resumeId + ".json");
+    }
+}
@@ -0,0 +1,319 @@
+package com.resumebuilder.ui.autosave;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumebuilder.dto.ResumeEdit;
+import com.resumebuilder.dto.ResumeEditResult;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.ResumeSection;
+import com.resumebuilder.service.ResumeEditService;
+import com.resumebuilder.service.ResumeSectionService;
+import com.resumebuilder.service.SectionType;
+import com.resumebuilder.ui.task.UiTask;
+import com.resumebuilder.ui.task.UiTaskRunner;
+
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind autosave for the resume open in the editor.
+ *
+ * The editor reports every field edit and added section entry. Edits are collected against the
+ * last persisted value of each field and written as one {@link ResumeEditService} merge once the
+ * user has been idle for {@code app.resume.autosave.idle-millis}, or at the latest
+ * {@code app.resume.autosave.max-delay-seconds} after the first unsaved edit. Only fields that
+ * differ from their persisted value and entries added since the last write are sent. Until they
+ * are written, pending edits are kept in a journal in {@code app.resume.autosave.journal-directory}
+ * so they can be recovered after a crash. Writes share the editor's save queue, so they never
+ * overlap a manual save.
+ *
+ * All methods except {@link #shutdown()} must be called on the FX thread.
+ */
+@Component
+public class ResumeAutosaver {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeAutosaver.class);
+
+    // Ids and versions are assigned by the database when the entry is written
+    @JsonIgnoreProperties({"id", "version", "resume"})
+    private abstract static class SectionMixIn {
+    }
+
+    private record PendingEntry(ResumeSection entry, ResumeEdit.SectionChange change) {
+    }
+
+    private final ResumeEditService resumeEditService;
+    private final ResumeSectionService resumeSectionService;
+    private final UiTaskRunner taskRunner;
+    private final ObjectMapper sectionMapper;
+    private final AutosaveJournal journal;
+    private final Duration idleDelay;
+    private final Duration maxDelay;
+
+    private PauseTransition idleTimer;
+    private PauseTransition maxDelayTimer;
+    private Resume resume;
+    private final Map<String, String> persisted = new HashMap<>();
+    private final Map<String, String> dirtyFields = new LinkedHashMap<>();
+    private final List<PendingEntry> pendingSections = new ArrayList<>();
+    private boolean suspended;
+    private Consumer<List<ResumeSection>> onSaved = entries -> { };
+    private Consumer<List<ResumeEditResult.Conflict>> onConflict = conflicts -> { };
+
+    public ResumeAutosaver(ResumeEditService resumeEditService,
+                           ResumeSectionService resumeSectionService,
+                           UiTaskRunner taskRunner,
+                           ObjectMapper objectMapper,
+                           @Value("${app.resume.autosave.idle-millis:2000}") long idleMillis,
+                           @Value("${app.resume.autosave.max-delay-seconds:30}") long maxDelaySeconds,
+                           @Value("${app.resume.autosave.journal-directory:./autosave}") String journalDirectory) {
+        this.resumeEditService = resumeEditService;
+        this.resumeSectionService = resumeSectionService;
+        this.taskRunner = taskRunner;
+        this.sectionMapper = objectMapper.copy();
+        for (SectionType type : SectionType.values()) {
+            sectionMapper.addMixIn(type.getEntityType(), SectionMixIn.class);
+        }
+        this.journal = new AutosaveJournal(Paths.get(journalDirectory), objectMapper);
+        this.idleDelay = Duration.millis(idleMillis);
+        this.maxDelay = Duration.seconds(maxDelaySeconds);
+    }
+
+    /**
+     * Starts tracking a resume, dropping whatever was pending for the previous one
+     *
+     * @param persistedFields the stored value of every field the editor reports, by edit field name
+     */
+    public void attach(Resume resume, Map<String, String> persistedFields) {
+        if (idleTimer == null) {
+            // Animations need the FX toolkit, which is not running when the application is
+            // started without the desktop UI
+            idleTimer = new PauseTransition(idleDelay);
+            idleTimer.setOnFinished(e -> flush());
+            maxDelayTimer = new PauseTransition(maxDelay);
+            maxDelayTimer.setOnFinished(e -> flush());
+        }
+        idleTimer.stop();
+        maxDelayTimer.stop();
+        this.resume = Objects.requireNonNull(resume, "Resume must not be null");
+        persisted.clear();
+        persisted.putAll(persistedFields);
+        dirtyFields.clear();
+        pendingSections.clear();
+        suspended = false;
+    }
+
+    /**
+     * @param onSaved called after each write with the section entries it added
+     */
+    public void setOnSaved(Consumer<List<ResumeSection>> onSaved) {
+        this.onSaved = onSaved;
+    }
+
+    public void setOnConflict(Consumer<List<ResumeEditResult.Conflict>> onConflict) {
+        this.onConflict = onConflict;
+    }
+
+    public void fieldChanged(String name, String value) {
+        if (resume == null) {
+            return;
+        }
+        if (Objects.equals(emptyToNull(value), emptyToNull(persisted.get(name)))) {
+            dirtyFields.remove(name);
+        } else {
+            dirtyFields.put(name, value);
+        }
+        changed();
+    }
+
+    public void sectionAdded(SectionType type, ResumeSection entry) {
+        if (resume == null) {
+            return;
+        }
+        pendingSections.add(new PendingEntry(entry, new ResumeEdit.SectionChange(type.getPath(), null, null,
+                sectionMapper.valueToTree(entry), false)));
+        changed();
+    }
+
+    /**
+     * Writes pending edits now instead of waiting for the user to go idle
+     */
+    public void flushNow() {
+        flush();
+    }
+
+    /**
+     * Looks in the background for journaled edits of the attached resume that were never written,
+     * and hands them to {@code restore} on the FX thread. Only fields nobody else changed since,
+     * and entries the resume does not already contain, are handed over.
+     */
+    public void recover(Consumer<ResumeEdit> restore) {
+        if (resume == null || resume.getId() == null) {
+            return;
+        }
+        Resume target = resume;
+        Long resumeId = target.getId();
+        Map<String, String> stored = new HashMap<>(persisted);
+        taskRunner.submit("Checking for unsaved changes", false,
+                task -> journal.read(resumeId).map(journaled -> unwritten(resumeId, journaled, stored)).orElse(null),
+                edit -> {
+                    if (edit != null && !AutosaveJournal.isEmpty(edit) && target == resume) {
+                        restore.accept(edit);
+                    }
+                },
+                error -> log.warn("Failed to recover unsaved changes of resume {}", resumeId, error));
+    }
+
+    /**
+     * Rebuilds the entry a recovered section change adds
+     */
+    public ResumeSection toEntry(ResumeEdit.SectionChange change) {
+        try {
+            return (ResumeSection) sectionMapper.treeToValue(change.fields(),
+                    SectionType.fromPath(change.section()).getEntityType());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid journaled section entry", e);
+        }
+    }
+
+    /**
+     * Waits for the journal to hold the pending edits. Every edit is journaled as it is made, and
+     * edits a running write has taken stay journaled until the write succeeds, so nothing has to
+     * be journaled here; writing to the database is not attempted because the task runner is
+     * shutting down too.
+     */
+    @PreDestroy
+    public void shutdown() {
+        journal.shutdown();
+    }
+
+    private void changed() {
+        journal(resume);
+        idleTimer.playFromStart();
+        if (maxDelayTimer.getStatus() != Animation.Status.RUNNING) {
+            maxDelayTimer.playFromStart();
+        }
+    }
+
+    private void flush() {
+        idleTimer.stop();
+        maxDelayTimer.stop();
+        if (resume != null && resume.getId() != null && !suspended && hasPendingChanges()) {
+            taskRunner.submitCoalesced("save", this::startWrite);
+        }
+    }
+
+    private UiTask<?> startWrite() {
+        // An earlier write of the same burst may already have taken everything
+        if (resume == null || resume.getId() == null || suspended || !hasPendingChanges()) {
+            return null;
+        }
+        Resume target = resume;
+        Long resumeId = target.getId();
+        ResumeEdit edit = pendingEdit();
+        Map<String, String> sentFields = new HashMap<>(dirtyFields);
+        List<PendingEntry> sentSections = List.copyOf(pendingSections);
+        dirtyFields.clear();
+        pendingSections.clear();
+
+        return taskRunner.submit("Saving changes", false, task -> resumeEditService.applyEdit(resumeId, edit),
+                result -> {
+                    if (target != resume) {
+                        return;
+                    }
+                    if (result.isApplied()) {
+                        persisted.putAll(sentFields);
+                        target.setVersion(result.version());
+                        journal(target);
+                        onSaved.accept(sentSections.stream().map(PendingEntry::entry).toList());
+                    } else {
+                        // Nothing was written; keep the edits journaled and stop writing until the
+                        // user reloads the resume
+                        requeue(sentFields, sentSections);
+                        suspended = true;
+                        onConflict.accept(result.conflicts());
+                    }
+                },
+                error -> {
+                    log.warn("Autosave of resume {} failed, retrying later", resumeId, error);
+                    if (target == resume) {
+                        requeue(sentFields, sentSections);
+                        maxDelayTimer.playFromStart();
+                    }
+                });
+    }
+
+    private void requeue(Map<String, String> fields, List<PendingEntry> sections) {
+        // Edits made while the write was running are newer than the ones it carried
+        fields.forEach(dirtyFields::putIfAbsent);
+        pendingSections.addAll(0, sections);
+        journal(resume);
+    }
+
+    private boolean hasPendingChanges() {
+        return !dirtyFields.isEmpty() || !pendingSections.isEmpty();
+    }
+
+    private ResumeEdit pendingEdit() {
+        Map<String, ResumeEdit.FieldChange> fields = new LinkedHashMap<>();
+        dirtyFields.forEach((name, value) -> fields.put(name, new ResumeEdit.FieldChange(persisted.get(name), value)));
+        return new ResumeEdit(fields, pendingSections.stream().map(PendingEntry::change).toList());
+    }
+
+    private void journal(Resume target) {
+        if (target.getId() != null) {
+            journal.write(target.getId(), pendingEdit());
+        }
+    }
+
+    /**
+     * The part of a journaled edit that is not in the database; runs off the FX thread
+     */
+    private ResumeEdit unwritten(Long resumeId, ResumeEdit journaled, Map<String, String> stored) {
+        Map<String, ResumeEdit.FieldChange> fields = new LinkedHashMap<>();
+        journaled.fields().forEach((name, change) -> {
+            String value = emptyToNull(stored.get(name));
+            if (Objects.equals(value, emptyToNull(change.base())) && !Objects.equals(value, emptyToNull(change.value()))) {
+                fields.put(name, change);
+            }
+        });
+
+        // A crash between writing entries and clearing the journal must not add them twice
+        Map<SectionType, List<JsonNode>> storedEntries = new EnumMap<>(SectionType.class);
+        List<ResumeEdit.SectionChange> sections = new ArrayList<>();
+        for (ResumeEdit.SectionChange change : journaled.sections()) {
+            List<JsonNode> existing = storedEntries.computeIfAbsent(SectionType.fromPath(change.section()),
+                    type -> resumeSectionService.findSections(resumeId, type).stream()
+                            .<JsonNode>map(sectionMapper::valueToTree)
+                            .toList());
+            if (!existing.contains(change.fields())) {
+                sections.add(change);
+            }
+        }
+        return new ResumeEdit(fields, sections);
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -3,22 +3,45 @@ package com.resumebuilder.ui.controller;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import com.resumebuilder.dto.ResumeEdit;
+import com.resumebuilder.dto.ResumeEditResult;
+import com.resumebuilder.dto.SectionListItem;
+import com.resumebuilder.model.CustomSection;
 import com.resumebuilder.model.Education;
 import com.resumebuilder.model.PersonalInfo;
 import com.resumebuilder.model.Project;
 import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.ResumeSection;
 import com.resumebuilder.model.ResumeSettings;
 import com.resumebuilder.model.Skill;
 import com.resumebuilder.model.User;
 import com.resumebuilder.model.WorkExperience;
+import com.resumebuilder.service.ResumeSectionService;
 import com.resumebuilder.service.ResumeService;
+import com.resumebuilder.service.SectionType;
 import com.resumebuilder.service.UserService;
 import com.resumebuilder.service.export.DocxExportService;
+import com.resumebuilder.service.export.HtmlExportService;
 import com.resumebuilder.service.export.PdfExportService;
+import com.resumebuilder.service.export.template.PdfTemplateRegistry;
+import com.resumebuilder.ui.autosave.ResumeAutosaver;
+import com.resumebuilder.ui.preview.LivePreview;
+import com.resumebuilder.ui.section.LazySectionList;
+import com.resumebuilder.ui.section.SectionItemCell;
+import com.resumebuilder.ui.task.UiTask;
+import com.resumebuilder.ui.task.UiTaskRunner;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
@@ -29,8 +52,10 @@ import javafx.scene.control.ComboBox;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
+import javafx.scene.control.TextInputControl;
 import javafx.scene.layout.VBox;
 import javafx.scene.web.WebView;
 import javafx.stage.FileChooser;
@@ -55,9 +80,29 @@ public class ResumeEditorController {
     private final UserService userService;
     private final PdfExportService pdfExportService;
     private final DocxExportService docxExportService;
+    private final HtmlExportService htmlExportService;
+    private final PdfTemplateRegistry templateRegistry;
+    private final UiTaskRunner taskRunner;
+    private final ResumeAutosaver autosaver;
+    private final ResumeSectionService resumeSectionService;
+
+    private static final String DEMO_EMAIL = "demo@resumebuilder.com";
+    private static final double SECTION_CELL_HEIGHT = 24;
+
+    private record LoadedResume(User user, Resume resume) {
+    }
+
+    @FunctionalInterface
+    private interface Exporter {
+        byte[] export(Resume resume) throws IOException;
+    }
 
     private Resume currentResume;
     private User currentUser;
+    private LivePreview livePreview;
+    private String idleStatus = "Ready";
+    private final Map<String, TextInputControl> autosavedFields = new LinkedHashMap<>();
+    private final Map<SectionType, LazySectionList> sectionLists = new EnumMap<>(SectionType.class);
 
     // Personal Info Fields
     @FXML private TextField firstNameField;
@@ -79,10 +124,10 @@ public class ResumeEditorController {
     @FXML private ComboBox<String> templateComboBox;
 
     // Lists
-    @FXML private ListView<Education> educationListView;
-    @FXML private ListView<WorkExperience> workExperienceListView;
-    @FXML private ListView<Skill> skillsListView;
-    @FXML private ListView<Project> projectsListView;
+    @FXML private ListView<SectionListItem> educationListView;
+    @FXML private ListView<SectionListItem> workExperienceListView;
+    @FXML private ListView<SectionListItem> skillsListView;
+    @FXML private ListView<SectionListItem> projectsListView;
 
     // Buttons - Injected by FXML runtime via reflection
     // IDE may incorrectly report these as "unused" - they are referenced in the .fxml file
@@ -97,61 +142,115 @@ public class ResumeEditorController {
     // Preview
     @FXML private WebView previewWebView;
 
+    // Status bar
+    @FXML private Label statusLabel;
+    @FXML private ProgressBar taskProgressBar;
+    @FXML private Button cancelTaskButton;        // Bound to onAction="#handleCancelTask"
+
     @FXML
     public void initialize() {
         setupTemplateComboBox();
+        setupSectionLists();
+        if (previewWebView != null) {
+            livePreview = new LivePreview(previewWebView, this::renderPreviewSection);
+        }
         setupListeners();
+        setupTaskStatus();
         
         // Load or create a default resume
         loadDefaultResume();
     }
 
     private void setupTemplateComboBox() {
-        templateComboBox.getItems().addAll("professional", "modern", "creative");
+        templateComboBox.getItems().addAll(templateRegistry.names());
         templateComboBox.setValue("professional");
         templateComboBox.setOnAction(e -> updateTemplate());
     }
 
+    private void setupSectionLists() {
+        for (SectionType type : SectionType.values()) {
+            sectionLists.put(type, new LazySectionList(type, resumeSectionService, taskRunner));
+        }
+        bindSectionList(educationListView, SectionType.EDUCATIONS);
+        bindSectionList(workExperienceListView, SectionType.WORK_EXPERIENCES);
+        bindSectionList(skillsListView, SectionType.SKILLS);
+        bindSectionList(projectsListView, SectionType.PROJECTS);
+    }
+
+    private void bindSectionList(ListView<SectionListItem> listView, SectionType type) {
+        listView.setItems(sectionLists.get(type));
+        listView.setCellFactory(view -> new SectionItemCell());
+        // Lets the list lay out cells without measuring them, so only visible lines are ever fetched
+        listView.setFixedCellSize(SECTION_CELL_HEIGHT);
+    }
+
     private void setupListeners() {
-        // Add listeners to update preview on text changes
-        firstNameField.textProperty().addListener((obs, oldVal, newVal) -> updatePreview());
-        lastNameField.textProperty().addListener((obs, oldVal, newVal) -> updatePreview());
-        professionalSummaryArea.textProperty().addListener((obs, oldVal, newVal) -> updatePreview());
+        // Add listeners to patch the preview section showing each field
+        firstNameField.textProperty().addListener((obs, oldVal, newVal) -> invalidatePreview(LivePreview.Section.HEADER));
+        lastNameField.textProperty().addListener((obs, oldVal, newVal) -> invalidatePreview(LivePreview.Section.HEADER));
+        emailField.textProperty().addListener((obs, oldVal, newVal) -> invalidatePreview(LivePreview.Section.HEADER));
+        phoneField.textProperty().addListener((obs, oldVal, newVal) -> invalidatePreview(LivePreview.Section.HEADER));
+        professionalSummaryArea.textProperty().addListener((obs, oldVal, newVal) -> invalidatePreview(LivePreview.Section.SUMMARY));
+
+        // Report every edit to the autosaver under the field's edit name
+        autosavedFields.put("personalInfo.firstName", firstNameField);
+        autosavedFields.put("personalInfo.lastName", lastNameField);
+        autosavedFields.put("personalInfo.email", emailField);
+        autosavedFields.put("personalInfo.phone", phoneField);
+        autosavedFields.put("personalInfo.address", addressField);
+        autosavedFields.put("personalInfo.city", cityField);
+        autosavedFields.put("personalInfo.state", stateField);
+        autosavedFields.put("personalInfo.zipCode", zipField);
+        autosavedFields.put("personalInfo.linkedinUrl", linkedInField);
+        autosavedFields.put("personalInfo.githubUrl", githubField);
+        autosavedFields.put("personalInfo.portfolioUrl", portfolioField);
+        autosavedFields.put("professionalSummary", professionalSummaryArea);
+        autosavedFields.forEach((name, control) ->
+                control.textProperty().addListener((obs, oldVal, newVal) -> autosaver.fieldChanged(name, newVal)));
+
+        autosaver.setOnSaved(entries -> {
+            sectionLists.values().forEach(list -> list.persisted(entries));
+            showStatus("All changes saved");
+        });
+        autosaver.setOnConflict(conflicts -> showAlert("Autosave Paused",
+                "Some of your changes overlap changes made elsewhere ("
+                        + conflicts.stream().map(ResumeEditResult.Conflict::target).collect(Collectors.joining(", "))
+                        + "). Your changes are kept locally; reload the resume to continue saving.",
+                Alert.AlertType.WARNING));
     }
 
     private void loadDefaultResume() {
-        // Try to load existing user and resume, or create demo data
+        // Start with a blank resume so the editor is usable while the saved one loads, or if
+        // loading is cancelled
+        currentUser = demoUser();
+        createNewResume();
+        loadResumeData();
+
         // In production with authentication, use the logged-in user
-        currentUser = userService.findByEmail("demo@resumebuilder.com")
-                .orElseGet(() -> {
-                    User newUser = User.builder()
-                            .email("demo@resumebuilder.com")
-                            .firstName("Demo")
-                            .lastName("User")
-                            .build();
-                    // In production, this would be saved: userService.save(newUser);
-                    return newUser;
-                });
-
-        // Load the user's resumes or create a new one
-        if (currentUser.getId() != null) {
-            Long userId = currentUser.getId();
-            if (userId != null) {
-                resumeService.findByUserId(userId)
-                        .stream()
-                        .findFirst()
-                        .ifPresentOrElse(
-                                resume -> currentResume = resume,
-                                this::createNewResume
-                        );
+        taskRunner.submit("Loading resume", true, task -> {
+            User user = userService.findByEmail(DEMO_EMAIL).orElseGet(ResumeEditorController::demoUser);
+            Resume resume = user.getId() != null
+                    ? resumeService.findByUserId(user.getId()).stream().findFirst().orElse(null)
+                    : null;
+            return new LoadedResume(user, resume);
+        }, loaded -> {
+            currentUser = loaded.user();
+            if (loaded.resume() != null) {
+                currentResume = loaded.resume();
             } else {
                 createNewResume();
             }
-        } else {
-            createNewResume();
-        }
+            loadResumeData();
+        }, error -> showAlert("Error", "Failed to load resume: " + error.getMessage(), Alert.AlertType.ERROR));
+    }
 
-        loadResumeData();
+    private static User demoUser() {
+        // In production, this would be saved: userService.save(newUser);
+        return User.builder()
+                .email(DEMO_EMAIL)
+                .firstName("Demo")
+                .lastName("User")
+                .build();
     }
 
     private void createNewResume() {
@@ -167,6 +266,9 @@ public class ResumeEditorController {
     private void loadResumeData() {
         if (currentResume == null) return;
 
+        // Attach first so that filling in the fields below does not count as edits
+        autosaver.attach(currentResume, persistedFields(currentResume));
+
         // Load personal info
         if (currentResume.getPersonalInfo() != null) {
             PersonalInfo pi = currentResume.getPersonalInfo();
@@ -174,6 +276,10 @@ public class ResumeEditorController {
             lastNameField.setText(pi.getLastName());
             emailField.setText(pi.getEmail());
             phoneField.setText(pi.getPhone());
+            addressField.setText(pi.getAddress());
+            cityField.setText(pi.getCity());
+            stateField.setText(pi.getState());
+            zipField.setText(pi.getZipCode());
             linkedInField.setText(pi.getLinkedinUrl());
             githubField.setText(pi.getGithubUrl());
             portfolioField.setText(pi.getPortfolioUrl());
@@ -189,13 +295,55 @@ public class ResumeEditorController {
             templateComboBox.setValue(currentResume.getTemplateName());
         }
 
-        // Load lists
-        educationListView.getItems().setAll(currentResume.getEducations());
-        workExperienceListView.getItems().setAll(currentResume.getWorkExperiences());
-        skillsListView.getItems().setAll(currentResume.getSkills());
-        projectsListView.getItems().setAll(currentResume.getProjects());
+        // Load lists; they fetch their entries page by page as they are shown
+        sectionLists.values().forEach(list -> list.load(currentResume.getId()));
+
+        if (livePreview != null) {
+            livePreview.invalidateAll();
+        }
 
-        updatePreview();
+        autosaver.recover(this::restoreUnsavedEdits);
+    }
+
+    /**
+     * Re-applies edits the autosaver journaled but never wrote, e.g. before a crash; they are
+     * reported as fresh edits and written on the next autosave
+     */
+    private void restoreUnsavedEdits(ResumeEdit edit) {
+        edit.fields().forEach((name, change) -> {
+            TextInputControl control = autosavedFields.get(name);
+            if (control != null) {
+                control.setText(change.value());
+            } else if (name.equals("templateName")) {
+                templateComboBox.setValue(change.value());
+            }
+        });
+        for (ResumeEdit.SectionChange change : edit.sections()) {
+            addEntry(SectionType.fromPath(change.section()), autosaver.toEntry(change));
+        }
+        showStatus("Recovered unsaved changes");
+    }
+
+    private static Map<String, String> persistedFields(Resume resume) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("title", resume.getTitle());
+        fields.put("professionalSummary", resume.getProfessionalSummary());
+        fields.put("templateName", resume.getTemplateName());
+        PersonalInfo pi = resume.getPersonalInfo();
+        if (pi != null) {
+            fields.put("personalInfo.firstName", pi.getFirstName());
+            fields.put("personalInfo.lastName", pi.getLastName());
+            fields.put("personalInfo.email", pi.getEmail());
+            fields.put("personalInfo.phone", pi.getPhone());
+            fields.put("personalInfo.address", pi.getAddress());
+            fields.put("personalInfo.city", pi.getCity());
+            fields.put("personalInfo.state", pi.getState());
+            fields.put("personalInfo.zipCode", pi.getZipCode());
+            fields.put("personalInfo.linkedinUrl", pi.getLinkedinUrl());
+            fields.put("personalInfo.githubUrl", pi.getGithubUrl());
+            fields.put("personalInfo.portfolioUrl", pi.getPortfolioUrl());
+        }
+        return fields;
     }
 
     /**
@@ -205,46 +353,47 @@ public class ResumeEditorController {
     @FXML
     private void handleSave() {
         saveCurrentData();
-        
-        // Persist to database if resume has an ID (already saved) or currentUser has ID
-        Long resumeId = currentResume.getId();
-        Long userId = currentUser != null ? currentUser.getId() : null;
-        
-        if (resumeId != null) {
-            try {
-                String title = currentResume.getTitle();
-                String description = currentResume.getDescription();
-                String summary = currentResume.getProfessionalSummary();
-                String template = currentResume.getTemplateName();
-                
-                if (title != null) {
-                    resumeService.updateResume(resumeId, title, description, summary, template);
-                    showAlert("Success", "Resume updated successfully!", Alert.AlertType.INFORMATION);
-                } else {
-                    showAlert("Error", "Resume title cannot be null", Alert.AlertType.ERROR);
-                }
-            } catch (Exception e) {
-                showAlert("Error", "Failed to save resume: " + e.getMessage(), Alert.AlertType.ERROR);
-            }
-        } else if (userId != null) {
-            try {
-                String title = currentResume.getTitle();
-                String description = currentResume.getDescription();
-                
-                if (title != null) {
-                    Resume saved = resumeService.createResume(userId, title, description);
-                    currentResume.setId(saved.getId());
-                    showAlert("Success", "Resume created successfully!", Alert.AlertType.INFORMATION);
-                } else {
-                    showAlert("Error", "Resume title cannot be null", Alert.AlertType.ERROR);
-                }
-            } catch (Exception e) {
-                showAlert("Error", "Failed to create resume: " + e.getMessage(), Alert.AlertType.ERROR);
-            }
+
+        if (currentResume.getId() != null) {
+            // Write everything the autosaver has pending instead of waiting for the user to go idle
+            autosaver.fieldChanged("title", currentResume.getTitle());
+            autosaver.flushNow();
         } else {
+            // Clicks while the resume is being created collapse into one more attempt
+            taskRunner.submitCoalesced("save", this::startCreate);
+        }
+    }
+
+    private UiTask<?> startCreate() {
+        if (currentResume.getId() != null) {
+            autosaver.flushNow();
+            return null;
+        }
+        Long userId = currentUser != null ? currentUser.getId() : null;
+        String title = currentResume.getTitle();
+        String description = currentResume.getDescription();
+
+        if (userId == null) {
             // Demo mode - no database persistence
-            showAlert("Success", "Resume saved (demo mode - not persisted to database)", Alert.AlertType.INFORMATION);
+            showStatus("Resume saved (demo mode - not persisted to database)");
+            return null;
+        }
+        if (title == null) {
+            showAlert("Error", "Resume title cannot be null", Alert.AlertType.ERROR);
+            return null;
         }
+        // Not cancellable: the insert may commit before the interrupt is noticed
+        return taskRunner.submit("Creating resume", false,
+                task -> resumeService.createResume(userId, title, description),
+                saved -> {
+                    currentResume.setId(saved.getId());
+                    currentResume.setVersion(saved.getVersion());
+                    sectionLists.values().forEach(list -> list.resumeCreated(saved.getId()));
+                    showStatus("Resume created successfully");
+                    // Everything else entered so far is still pending in the autosaver
+                    autosaver.flushNow();
+                },
+                error -> showAlert("Error", "Failed to create resume: " + error.getMessage(), Alert.AlertType.ERROR));
     }
 
     private void saveCurrentData() {
@@ -287,26 +436,18 @@ public class ResumeEditorController {
      */
     @FXML
     private void handleExportPdf() {
-        try {
-            saveCurrentData();
-            
-            FileChooser fileChooser = new FileChooser();
-            fileChooser.setTitle("Save Resume as PDF");
-            fileChooser.setInitialFileName("resume.pdf");
-            fileChooser.getExtensionFilters().add(
-                new FileChooser.ExtensionFilter("PDF Files", "*.pdf")
-            );
-            
-            File file = fileChooser.showSaveDialog(exportPdfButton.getScene().getWindow());
-            if (file != null) {
-                byte[] pdfBytes = pdfExportService.exportToPdf(currentResume);
-                try (FileOutputStream fos = new FileOutputStream(file)) {
-                    fos.write(pdfBytes);
-                }
-                showAlert("Success", "Resume exported to PDF successfully!", Alert.AlertType.INFORMATION);
-            }
-        } catch (IOException e) {
-            showAlert("Error", "Failed to export PDF: " + e.getMessage(), Alert.AlertType.ERROR);
+        saveCurrentData();
+
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Save Resume as PDF");
+        fileChooser.setInitialFileName("resume.pdf");
+        fileChooser.getExtensionFilters().add(
+            new FileChooser.ExtensionFilter("PDF Files", "*.pdf")
+        );
+
+        File file = fileChooser.showSaveDialog(exportPdfButton.getScene().getWindow());
+        if (file != null) {
+            exportWhenSaved("PDF", file, pdfExportService::exportToPdf);
         }
     }
 
@@ -316,26 +457,108 @@ public class ResumeEditorController {
      */
     @FXML
     private void handleExportDocx() {
-        try {
-            saveCurrentData();
-            
-            FileChooser fileChooser = new FileChooser();
-            fileChooser.setTitle("Save Resume as Word Document");
-            fileChooser.setInitialFileName("resume.docx");
-            fileChooser.getExtensionFilters().add(
-                new FileChooser.ExtensionFilter("Word Documents", "*.docx")
-            );
-            
-            File file = fileChooser.showSaveDialog(exportDocxButton.getScene().getWindow());
-            if (file != null) {
-                byte[] docxBytes = docxExportService.exportToDocx(currentResume);
-                try (FileOutputStream fos = new FileOutputStream(file)) {
-                    fos.write(docxBytes);
-                }
-                showAlert("Success", "Resume exported to Word successfully!", Alert.AlertType.INFORMATION);
+        saveCurrentData();
+
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Save Resume as Word Document");
+        fileChooser.setInitialFileName("resume.docx");
+        fileChooser.getExtensionFilters().add(
+            new FileChooser.ExtensionFilter("Word Documents", "*.docx")
+        );
+
+        File file = fileChooser.showSaveDialog(exportDocxButton.getScene().getWindow());
+        if (file != null) {
+            exportWhenSaved("Word document", file, docxExportService::exportToDocx);
+        }
+    }
+
+    private void exportWhenSaved(String format, File file, Exporter exporter) {
+        // Write pending edits first, so the export reads the same entries back from the database
+        autosaver.flushNow();
+        taskRunner.whenIdle("save", () -> exportInBackground(format, file, exporter));
+    }
+
+    private void exportInBackground(String format, File file, Exporter exporter) {
+        saveCurrentData();
+        // The stored sections are read in the background; the editor's fields and its unsaved
+        // entries are copied now, since the editor keeps changing them while the export runs
+        Long resumeId = currentResume.getId();
+        Resume editorState = currentResume.toBuilder()
+                .workExperiences(new ArrayList<>())
+                .educations(new ArrayList<>())
+                .skills(new ArrayList<>())
+                .projects(new ArrayList<>())
+                .customSections(new ArrayList<>())
+                .build();
+        List<WorkExperience> unsavedExperiences = sectionLists.get(SectionType.WORK_EXPERIENCES).unsavedEntries(WorkExperience.class);
+        List<Education> unsavedEducations = sectionLists.get(SectionType.EDUCATIONS).unsavedEntries(Education.class);
+        List<Skill> unsavedSkills = sectionLists.get(SectionType.SKILLS).unsavedEntries(Skill.class);
+        List<Project> unsavedProjects = sectionLists.get(SectionType.PROJECTS).unsavedEntries(Project.class);
+        List<CustomSection> unsavedCustomSections = sectionLists.get(SectionType.CUSTOM_SECTIONS).unsavedEntries(CustomSection.class);
+
+        taskRunner.submit("Exporting " + format, true, task -> {
+            task.progress("Reading resume", 0, 3);
+            Resume snapshot = editorState;
+            if (resumeId != null) {
+                Resume stored = resumeService.findByIdWithAllDetails(resumeId)
+                        .orElseThrow(() -> new IllegalArgumentException("Resume not found"));
+                snapshot.getWorkExperiences().addAll(stored.getWorkExperiences());
+                snapshot.getEducations().addAll(stored.getEducations());
+                snapshot.getSkills().addAll(stored.getSkills());
+                snapshot.getProjects().addAll(stored.getProjects());
+                snapshot.getCustomSections().addAll(stored.getCustomSections());
+            }
+            snapshot.getWorkExperiences().addAll(unsavedExperiences);
+            snapshot.getEducations().addAll(unsavedEducations);
+            snapshot.getSkills().addAll(unsavedSkills);
+            snapshot.getProjects().addAll(unsavedProjects);
+            snapshot.getCustomSections().addAll(unsavedCustomSections);
+
+            task.progress("Rendering " + format, 1, 3);
+            byte[] bytes = exporter.export(snapshot);
+            if (task.isCancelled()) {
+                return null;
+            }
+            task.progress("Writing " + file.getName(), 2, 3);
+            try (FileOutputStream fos = new FileOutputStream(file)) {
+                fos.write(bytes);
+            }
+            return file;
+        }, written -> showStatus("Resume exported to " + written.getName()),
+           error -> showAlert("Error", "Failed to export " + format + ": " + error.getMessage(), Alert.AlertType.ERROR));
+    }
+
+    /**
+     * FXML Event Handler: Called when the status bar's cancel button is clicked
+     * Bound in .fxml file via onAction="#handleCancelTask"
+     */
+    @FXML
+    private void handleCancelTask() {
+        taskRunner.cancelCurrent();
+    }
+
+    private void setupTaskStatus() {
+        taskRunner.currentTaskProperty().addListener((obs, oldTask, task) -> {
+            statusLabel.textProperty().unbind();
+            taskProgressBar.progressProperty().unbind();
+            if (task != null) {
+                statusLabel.textProperty().bind(task.messageProperty());
+                taskProgressBar.progressProperty().bind(task.progressProperty());
+            } else {
+                statusLabel.setText(idleStatus);
             }
-        } catch (IOException e) {
-            showAlert("Error", "Failed to export Word document: " + e.getMessage(), Alert.AlertType.ERROR);
+            taskProgressBar.setVisible(task != null);
+            cancelTaskButton.setVisible(task != null && task.isCancellable());
+        });
+    }
+
+    /**
+     * Shows a message in the status bar once no background task is running
+     */
+    private void showStatus(String message) {
+        idleStatus = message;
+        if (taskRunner.currentTaskProperty().get() == null) {
+            statusLabel.setText(message);
         }
     }
 
@@ -348,11 +571,7 @@ public class ResumeEditorController {
         // Show dialog to add education
         EducationDialog dialog = new EducationDialog();
         Optional<Education> result = dialog.showAndWait();
-        result.ifPresent(education -> {
-            currentResume.addEducation(education);
-            educationListView.getItems().add(education);
-            updatePreview();
-        });
+        result.ifPresent(education -> addEntry(SectionType.EDUCATIONS, education));
     }
 
     /**
@@ -364,11 +583,7 @@ public class ResumeEditorController {
         // Show dialog to add work experience
         WorkExperienceDialog dialog = new WorkExperienceDialog();
         Optional<WorkExperience> result = dialog.showAndWait();
-        result.ifPresent(experience -> {
-            currentResume.addWorkExperience(experience);
-            workExperienceListView.getItems().add(experience);
-            updatePreview();
-        });
+        result.ifPresent(experience -> addEntry(SectionType.WORK_EXPERIENCES, experience));
     }
 
     /**
@@ -380,11 +595,7 @@ public class ResumeEditorController {
         // Show dialog to add skill
         SkillDialog dialog = new SkillDialog();
         Optional<Skill> result = dialog.showAndWait();
-        result.ifPresent(skill -> {
-            currentResume.addSkill(skill);
-            skillsListView.getItems().add(skill);
-            updatePreview();
-        });
+        result.ifPresent(skill -> addEntry(SectionType.SKILLS, skill));
     }
 
     /**
@@ -396,92 +607,68 @@ public class ResumeEditorController {
         // Show dialog to add project
         ProjectDialog dialog = new ProjectDialog();
         Optional<Project> result = dialog.showAndWait();
-        result.ifPresent(project -> {
-            currentResume.addProject(project);
-            projectsListView.getItems().add(project);
-            updatePreview();
-        });
+        result.ifPresent(project -> addEntry(SectionType.PROJECTS, project));
+    }
+
+    private void addEntry(SectionType type, ResumeSection entry) {
+        sectionLists.get(type).addUnsaved(entry);
+        switch (type) {
+            case EDUCATIONS -> invalidatePreview(LivePreview.Section.EDUCATION);
+            case WORK_EXPERIENCES -> invalidatePreview(LivePreview.Section.EXPERIENCE);
+            case SKILLS -> invalidatePreview(LivePreview.Section.SKILLS);
+            default -> {
+                // Not shown in the preview
+            }
+        }
+        autosaver.sectionAdded(type, entry);
     }
 
     private void updateTemplate() {
         if (currentResume != null) {
             currentResume.setTemplateName(templateComboBox.getValue());
-            updatePreview();
+            autosaver.fieldChanged("templateName", templateComboBox.getValue());
         }
     }
 
-    private void updatePreview() {
-        // Generate HTML preview of the resume
-        String html = generatePreviewHtml();
-        if (previewWebView != null) {
-            previewWebView.getEngine().loadContent(html);
+    private void invalidatePreview(LivePreview.Section section) {
+        if (livePreview != null) {
+            livePreview.invalidate(section);
         }
     }
 
-    private String generatePreviewHtml() {
-        StringBuilder html = new StringBuilder();
-        html.append("<html><head><style>");
-        html.append("body { font-family: Arial, sans-serif; margin: 20px; }");
-        html.append("h1 { color: #2c3e50; border-bottom: 2px solid #3498db; }");
-        html.append("h2 { color: #34495e; margin-top: 20px; }");
-        html.append(".contact { color: #7f8c8d; }");
-        html.append("</style></head><body>");
-
-        // Personal Info
-        String firstName = firstNameField.getText();
-        String lastName = lastNameField.getText();
-        if (!firstName.isEmpty() || !lastName.isEmpty()) {
-            html.append("<h1>").append(firstName).append(" ").append(lastName).append("</h1>");
-        }
-
-        String email = emailField.getText();
-        String phone = phoneField.getText();
-        if (!email.isEmpty() || !phone.isEmpty()) {
-            html.append("<p class='contact'>").append(email);
-            if (!phone.isEmpty()) {
-                html.append(" | ").append(phone);
+    /**
+     * Snapshots the fields a preview section shows; the returned task renders them off the FX thread
+     */
+    private Callable<String> renderPreviewSection(LivePreview.Section section) {
+        return switch (section) {
+            case HEADER -> {
+                String firstName = textOf(firstNameField);
+                String lastName = textOf(lastNameField);
+                String email = textOf(emailField);
+                String phone = textOf(phoneField);
+                yield () -> htmlExportService.header(firstName, lastName, email, phone);
             }
-            html.append("</p>");
-        }
-
-        // Professional Summary
-        String summary = professionalSummaryArea.getText();
-        if (!summary.isEmpty()) {
-            html.append("<h2>Professional Summary</h2>");
-            html.append("<p>").append(summary.replace("\n", "<br>")).append("</p>");
-        }
-
-        // Work Experience
-        if (!workExperienceListView.getItems().isEmpty()) {
-            html.append("<h2>Work Experience</h2>");
-            for (WorkExperience we : workExperienceListView.getItems()) {
-                html.append("<h3>").append(we.getJobTitle()).append(" - ").append(we.getCompany()).append("</h3>");
-                html.append("<p><i>").append(we.getDateRange()).append("</i></p>");
+            case SUMMARY -> {
+                String summary = textOf(professionalSummaryArea);
+                yield () -> htmlExportService.summary(summary);
             }
-        }
-
-        // Education
-        if (!educationListView.getItems().isEmpty()) {
-            html.append("<h2>Education</h2>");
-            for (Education edu : educationListView.getItems()) {
-                html.append("<h3>").append(edu.getDegree()).append("</h3>");
-                html.append("<p>").append(edu.getInstitution()).append("</p>");
+            case EXPERIENCE -> {
+                Callable<List<SectionListItem>> experiences = sectionLists.get(SectionType.WORK_EXPERIENCES).allItems();
+                yield () -> htmlExportService.workExperience(experiences.call());
             }
-        }
-
-        // Skills
-        if (!skillsListView.getItems().isEmpty()) {
-            html.append("<h2>Skills</h2>");
-            html.append("<p>");
-            for (int i = 0; i < skillsListView.getItems().size(); i++) {
-                if (i > 0) html.append(", ");
-                html.append(skillsListView.getItems().get(i).getName());
+            case EDUCATION -> {
+                Callable<List<SectionListItem>> educations = sectionLists.get(SectionType.EDUCATIONS).allItems();
+                yield () -> htmlExportService.education(educations.call());
             }
-            html.append("</p>");
-        }
+            case SKILLS -> {
+                Callable<List<SectionListItem>> skills = sectionLists.get(SectionType.SKILLS).allItems();
+                yield () -> htmlExportService.skills(skills.call());
+            }
+        };
+    }
 
-        html.append("</body></html>");
-        return html.toString();
+    private static String textOf(TextInputControl control) {
+        return control.getText() != null ? control.getText() : "";
     }
 
     private void showAlert(String title, String content, Alert.AlertType type) {
@@ -0,0 +1,127 @@
+package com.resumebuilder.ui.preview;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.concurrent.Worker;
+import javafx.scene.web.WebEngine;
+import javafx.scene.web.WebView;
+import javafx.util.Duration;
+
+/**
+ * Incremental HTML preview in a WebView.
+ *
+ * The shell document is loaded once; afterwards each {@link Section} is patched in place through
+ * a script call. Invalidations arriving within one frame are coalesced, the section renderer is
+ * asked for a snapshot on the FX thread, and the HTML is built on a background thread. Only the
+ * newest result for a section is applied, and only if it differs from what is already shown.
+ * All methods must be called on the FX thread.
+ */
+public class LivePreview {
+
+    private static final Logger log = LoggerFactory.getLogger(LivePreview.class);
+
+    private static final Duration COALESCE_WINDOW = Duration.millis(16);
+
+    public enum Section {
+        HEADER("header"),
+        SUMMARY("summary"),
+        EXPERIENCE("experience"),
+        EDUCATION("education"),
+        SKILLS("skills");
+
+        private final String elementId;
+
+        Section(String elementId) {
+            this.elementId = elementId;
+        }
+
+        String elementId() {
+            return elementId;
+        }
+    }
+
+    private static final ExecutorService RENDERER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "preview-renderer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final WebEngine engine;
+    private final Function<Section, Callable<String>> sectionRenderer;
+    private final PauseTransition coalesce = new PauseTransition(COALESCE_WINDOW);
+    private final EnumSet<Section> dirty = EnumSet.noneOf(Section.class);
+    private final Map<Section, Long> generations = new EnumMap<>(Section.class);
+    private final Map<Section, String> shown = new EnumMap<>(Section.class);
+    private boolean loaded;
+
+    /**
+     * @param sectionRenderer called on the FX thread with a dirty section; it snapshots the state the
+     *                        section needs and returns the task that renders its HTML fragment
+     */
+    public LivePreview(WebView webView, Function<Section, Callable<String>> sectionRenderer) {
+        this.engine = Objects.requireNonNull(webView, "WebView must not be null").getEngine();
+        this.sectionRenderer = Objects.requireNonNull(sectionRenderer, "Section renderer must not be null");
+        coalesce.setOnFinished(e -> flush());
+
+        engine.getLoadWorker().stateProperty().addListener((obs, oldState, newState) -> {
+            if (newState == Worker.State.SUCCEEDED) {
+                loaded = true;
+                flush();
+            }
+        });
+        engine.loadContent(PreviewHtml.shell());
+    }
+
+    public void invalidate(Section section) {
+        dirty.add(section);
+        if (loaded && coalesce.getStatus() != Animation.Status.RUNNING) {
+            coalesce.playFromStart();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Section section : Section.values()) {
+            invalidate(section);
+        }
+    }
+
+    private void flush() {
+        for (Section section : dirty) {
+            Callable<String> render = sectionRenderer.apply(section);
+            long generation = generations.merge(section, 1L, Long::sum);
+            RENDERER.execute(() -> {
+                try {
+                    String html = render.call();
+                    Platform.runLater(() -> apply(section, generation, html));
+                } catch (Exception e) {
+                    log.warn("Failed to render preview section {}", section, e);
+                }
+            });
+        }
+        dirty.clear();
+    }
+
+    private void apply(Section section, long generation, String html) {
+        if (generation != generations.get(section) || html.equals(shown.get(section))) {
+            return;
+        }
+        shown.put(section, html);
+        engine.executeScript("patch('" + section.elementId() + "', \""
+                + new String(JsonStringEncoder.getInstance().quoteAsString(html)) + "\")");
+    }
+}
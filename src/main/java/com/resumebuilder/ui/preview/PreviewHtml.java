@@ -0,0 +1,25 @@
+package com.resumebuilder.ui.preview;
+
+import com.resumebuilder.service.export.HtmlExportService;
+
+/**
+ * Shell document for the editor's live preview, with one container per {@link LivePreview.Section}.
+ * The containers are filled with the section fragments of {@link HtmlExportService}.
+ */
+final class PreviewHtml {
+
+    private PreviewHtml() {
+    }
+
+    static String shell() {
+        StringBuilder html = new StringBuilder();
+        html.append("<html><head><style>").append(HtmlExportService.STYLESHEET).append("</style><script>");
+        html.append("function patch(id, html) { document.getElementById(id).innerHTML = html; }");
+        html.append("</script></head><body>");
+        for (LivePreview.Section section : LivePreview.Section.values()) {
+            html.append("<div id='").append(section.elementId()).append("'></div>");
+        }
+        html.append("</body></html>");
+        return html.toString();
+    }
+}
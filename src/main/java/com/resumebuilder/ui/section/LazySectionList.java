@@ -0,0 +1,221 @@
+package com.resumebuilder.ui.section;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.resumebuilder.dto.SectionListItem;
+import com.resumebuilder.model.ResumeSection;
+import com.resumebuilder.service.ResumeSectionService;
+import com.resumebuilder.service.SectionType;
+import com.resumebuilder.ui.task.UiTaskRunner;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * List model for one resume section that fetches its lines page by page as a ListView shows them.
+ *
+ * Opening a resume only counts the stored entries, so it costs the same however long the section
+ * is. A line whose page is not loaded yet reads as {@link #LOADING} and starts a background fetch
+ * of that page; once the page arrives the list reports those lines as replaced. Only the most
+ * recently used {@value #MAX_CACHED_PAGES} pages are kept. Entries added in the editor follow the
+ * stored ones until they are persisted. All methods must be called on the FX thread.
+ */
+public class LazySectionList extends ObservableListBase<SectionListItem> {
+
+    private static final Logger log = LoggerFactory.getLogger(LazySectionList.class);
+
+    /**
+     * Placeholder for a line that is still being fetched; compare by identity
+     */
+    public static final SectionListItem LOADING = new SectionListItem(null, null, null);
+
+    private static final int PAGE_SIZE = 50;
+    private static final int MAX_CACHED_PAGES = 20;
+
+    private final SectionType type;
+    private final ResumeSectionService resumeSectionService;
+    private final UiTaskRunner taskRunner;
+
+    private final Map<Integer, List<SectionListItem>> pages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<SectionListItem>> eldest) {
+            return size() > MAX_CACHED_PAGES;
+        }
+    };
+    private final Set<Integer> requestedPages = new HashSet<>();
+    private final List<ResumeSection> unsavedEntries = new ArrayList<>();
+    private final List<SectionListItem> unsavedItems = new ArrayList<>();
+    private Long resumeId;
+    private int storedCount;
+    // Bumped whenever the stored entries are reloaded, so fetches started before are ignored
+    private long generation;
+
+    public LazySectionList(SectionType type, ResumeSectionService resumeSectionService, UiTaskRunner taskRunner) {
+        this.type = Objects.requireNonNull(type, "Section type must not be null");
+        this.resumeSectionService = resumeSectionService;
+        this.taskRunner = taskRunner;
+    }
+
+    /**
+     * Shows the given resume's section, dropping unsaved entries of the previous one
+     */
+    public void load(Long resumeId) {
+        int oldSize = size();
+        this.resumeId = resumeId;
+        unsavedEntries.clear();
+        unsavedItems.clear();
+        reloadStored(oldSize);
+    }
+
+    /**
+     * Points the list at a resume that was just created from the entries shown so far
+     */
+    public void resumeCreated(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public void addUnsaved(ResumeSection entry) {
+        unsavedEntries.add(entry);
+        unsavedItems.add(SectionListItem.of(entry));
+        beginChange();
+        nextAdd(size() - 1, size());
+        endChange();
+    }
+
+    /**
+     * Moves entries that were just written from the unsaved tail to the stored part of the list
+     */
+    public void persisted(Collection<? extends ResumeSection> entries) {
+        Set<ResumeSection> written = Collections.newSetFromMap(new IdentityHashMap<>());
+        written.addAll(entries);
+        int oldSize = size();
+        boolean removed = false;
+        for (int i = unsavedEntries.size() - 1; i >= 0; i--) {
+            if (written.contains(unsavedEntries.get(i))) {
+                unsavedEntries.remove(i);
+                unsavedItems.remove(i);
+                removed = true;
+            }
+        }
+        if (removed) {
+            reloadStored(oldSize);
+        }
+    }
+
+    public <T extends ResumeSection> List<T> unsavedEntries(Class<T> entryType) {
+        return unsavedEntries.stream().map(entryType::cast).toList();
+    }
+
+    /**
+     * Snapshots the list and returns the task that fetches all of its lines, for use off the FX
+     * thread
+     */
+    public Callable<List<SectionListItem>> allItems() {
+        Long id = resumeId;
+        List<SectionListItem> unsaved = List.copyOf(unsavedItems);
+        return () -> {
+            List<SectionListItem> items = new ArrayList<>();
+            if (id != null) {
+                items.addAll(resumeSectionService.listSectionItems(id, type, Pageable.unpaged()));
+            }
+            items.addAll(unsaved);
+            return items;
+        };
+    }
+
+    @Override
+    public SectionListItem get(int index) {
+        Objects.checkIndex(index, size());
+        if (index >= storedCount) {
+            return unsavedItems.get(index - storedCount);
+        }
+        int page = index / PAGE_SIZE;
+        List<SectionListItem> items = pages.get(page);
+        if (items == null) {
+            requestPage(page);
+            return LOADING;
+        }
+        int offset = index % PAGE_SIZE;
+        return offset < items.size() ? items.get(offset) : LOADING;
+    }
+
+    @Override
+    public int size() {
+        return storedCount + unsavedItems.size();
+    }
+
+    private void reloadStored(int oldSize) {
+        generation++;
+        pages.clear();
+        requestedPages.clear();
+        storedCount = 0;
+        fireReplaced(oldSize);
+        if (resumeId == null) {
+            return;
+        }
+        long expected = generation;
+        Long id = resumeId;
+        taskRunner.submit("Loading " + type.getPath(), false,
+                task -> resumeSectionService.countSection(id, type),
+                count -> {
+                    if (expected == generation) {
+                        int before = size();
+                        storedCount = Math.toIntExact(count);
+                        fireReplaced(before);
+                    }
+                },
+                error -> log.warn("Failed to count {} of resume {}", type.getPath(), id, error));
+    }
+
+    private void requestPage(int page) {
+        if (resumeId == null || !requestedPages.add(page)) {
+            return;
+        }
+        long expected = generation;
+        Long id = resumeId;
+        taskRunner.submit("Loading " + type.getPath(), false,
+                task -> resumeSectionService.listSectionItems(id, type, PageRequest.of(page, PAGE_SIZE)),
+                items -> {
+                    if (expected != generation) {
+                        return;
+                    }
+                    requestedPages.remove(page);
+                    pages.put(page, items);
+                    int from = page * PAGE_SIZE;
+                    int to = Math.min(from + PAGE_SIZE, storedCount);
+                    if (from < to) {
+                        beginChange();
+                        for (int i = from; i < to; i++) {
+                            nextSet(i, LOADING);
+                        }
+                        endChange();
+                    }
+                },
+                error -> {
+                    requestedPages.remove(page);
+                    log.warn("Failed to load {} page {} of resume {}", type.getPath(), page, id, error);
+                });
+    }
+
+    private void fireReplaced(int oldSize) {
+        if (oldSize > 0 || size() > 0) {
+            beginChange();
+            nextReplace(0, size(), Collections.nCopies(oldSize, LOADING));
+            endChange();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.resumebuilder.ui.section;
+
+import com.resumebuilder.dto.SectionListItem;
+
+import javafx.scene.control.ListCell;
+
+/**
+ * One line of a section list: title, subtitle and detail, with unsaved entries in italics
+ */
+public class SectionItemCell extends ListCell<SectionListItem> {
+
+    @Override
+    protected void updateItem(SectionListItem item, boolean empty) {
+        super.updateItem(item, empty);
+        if (empty || item == null) {
+            setText(null);
+            setStyle(null);
+        } else if (item == LazySectionList.LOADING) {
+            setText("Loading…");
+            setStyle("-fx-text-fill: gray;");
+        } else {
+            StringBuilder text = new StringBuilder(item.title() != null ? item.title() : "");
+            if (item.subtitle() != null && !item.subtitle().isEmpty()) {
+                text.append(" — ").append(item.subtitle());
+            }
+            if (item.detail() != null && !item.detail().isEmpty()) {
+                text.append(" (").append(item.detail()).append(")");
+            }
+            setText(text.toString());
+            setStyle(item.id() == null ? "-fx-font-style: italic;" : null);
+        }
+    }
+}
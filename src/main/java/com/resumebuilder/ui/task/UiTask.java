@@ -0,0 +1,45 @@
+package com.resumebuilder.ui.task;
+
+import javafx.concurrent.Task;
+
+/**
+ * A unit of background work started through {@link UiTaskRunner}
+ */
+public final class UiTask<T> extends Task<T> {
+
+    @FunctionalInterface
+    public interface Work<T> {
+        T run(UiTask<?> task) throws Exception;
+    }
+
+    private final Work<T> work;
+    private final boolean cancellable;
+
+    UiTask(String title, boolean cancellable, Work<T> work) {
+        this.work = work;
+        this.cancellable = cancellable;
+        updateTitle(title);
+        updateMessage(title);
+    }
+
+    @Override
+    protected T call() throws Exception {
+        return work.run(this);
+    }
+
+    /**
+     * Whether the editor may offer to cancel this task. Work that can commit before it notices the
+     * interrupt, such as a save, is not cancellable.
+     */
+    public boolean isCancellable() {
+        return cancellable;
+    }
+
+    /**
+     * Reports a step of determinate progress; safe to call from the worker thread
+     */
+    public void progress(String message, long workDone, long max) {
+        updateMessage(message);
+        updateProgress(workDone, max);
+    }
+}
@@ -0,0 +1,131 @@
+package com.resumebuilder.ui.task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs the editor's database and export work on virtual threads.
+ *
+ * Tasks are started from the FX thread, and their completion callbacks are delivered back on the
+ * FX thread. {@link #currentTaskProperty()} holds the most recently started unfinished task for
+ * the editor's status bar. Every method must be called on the FX thread.
+ */
+@Component
+public class UiTaskRunner {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObservableList<UiTask<?>> running = FXCollections.observableArrayList();
+    private final ReadOnlyObjectWrapper<UiTask<?>> currentTask = new ReadOnlyObjectWrapper<>();
+    private final Map<String, UiTask<?>> coalescedInFlight = new HashMap<>();
+    private final Map<String, Supplier<UiTask<?>>> coalescedPending = new HashMap<>();
+    private final Map<String, List<Runnable>> idleActions = new HashMap<>();
+
+    public <T> UiTask<T> submit(String title, boolean cancellable, UiTask.Work<T> work,
+                                Consumer<? super T> onSuccess, Consumer<Throwable> onFailure) {
+        Objects.requireNonNull(work, "Work must not be null");
+        UiTask<T> task = new UiTask<>(title, cancellable, work);
+        task.setOnSucceeded(e -> {
+            try {
+                onSuccess.accept(task.getValue());
+            } finally {
+                finished(task);
+            }
+        });
+        task.setOnFailed(e -> {
+            try {
+                onFailure.accept(task.getException());
+            } finally {
+                finished(task);
+            }
+        });
+        task.setOnCancelled(e -> finished(task));
+
+        running.add(task);
+        currentTask.set(task);
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Starts a task unless one started under the same key is still running. In that case the
+     * request is deferred until that task's callbacks have run, and any further requests in the
+     * meantime replace it, so a burst of requests costs at most one extra run, which starts from
+     * the latest state.
+     *
+     * @param start snapshots the editor state and submits the task, or returns null if there is
+     *              nothing to run
+     */
+    public void submitCoalesced(String key, Supplier<UiTask<?>> start) {
+        if (coalescedInFlight.containsKey(key)) {
+            coalescedPending.put(key, start);
+            return;
+        }
+        UiTask<?> task = start.get();
+        if (task != null) {
+            coalescedInFlight.put(key, task);
+        }
+    }
+
+    /**
+     * Runs the action once no task started under the key is running, including any deferred
+     * follow-up; immediately if none is
+     */
+    public void whenIdle(String key, Runnable action) {
+        if (coalescedInFlight.containsKey(key)) {
+            idleActions.computeIfAbsent(key, k -> new ArrayList<>()).add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    public ReadOnlyObjectProperty<UiTask<?>> currentTaskProperty() {
+        return currentTask.getReadOnlyProperty();
+    }
+
+    public void cancelCurrent() {
+        UiTask<?> task = currentTask.get();
+        if (task != null && task.isCancellable()) {
+            task.cancel();
+        }
+    }
+
+    private void finished(UiTask<?> task) {
+        running.remove(task);
+        currentTask.set(running.isEmpty() ? null : running.get(running.size() - 1));
+
+        for (Map.Entry<String, UiTask<?>> entry : Map.copyOf(coalescedInFlight).entrySet()) {
+            if (entry.getValue() == task) {
+                coalescedInFlight.remove(entry.getKey());
+                Supplier<UiTask<?>> next = coalescedPending.remove(entry.getKey());
+                if (next != null) {
+                    submitCoalesced(entry.getKey(), next);
+                }
+                if (!coalescedInFlight.containsKey(entry.getKey())) {
+                    idleActions.getOrDefault(entry.getKey(), List.of()).forEach(Runnable::run);
+                    idleActions.remove(entry.getKey());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,23 @@
+-- Migrates an existing H2 development database from IDENTITY ids to the pooled sequences
+-- used by the resume entities. Run once in the H2 console after upgrading (and again after
+-- loading sample-data.sql, which inserts explicit ids). Hibernate's ddl-auto=update creates
+-- missing sequences, but it does not move them past the ids already in the tables.
+--
+-- Sequences advance by the allocation size (50); each value hands out the 50 ids below it,
+-- so every sequence is restarted at MAX(id) + 50.
+
+CREATE SEQUENCE IF NOT EXISTS resumes_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS personal_info_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS work_experience_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS education_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS skills_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS projects_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS custom_sections_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE resumes_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM resumes);
+ALTER SEQUENCE personal_info_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM personal_info);
+ALTER SEQUENCE work_experience_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM work_experience);
+ALTER SEQUENCE education_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM education);
+ALTER SEQUENCE skills_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM skills);
+ALTER SEQUENCE projects_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM projects);
+ALTER SEQUENCE custom_sections_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM custom_sections);
@@ -0,0 +1,44 @@
+-- Migrates an existing PostgreSQL database from IDENTITY/serial ids to the pooled sequences
+-- used by the resume entities. Run once before deploying a build that uses sequence ids;
+-- the prod profile runs with ddl-auto=validate and expects these sequences to exist.
+--
+-- Sequences advance by the allocation size (50); each value hands out the 50 ids below it,
+-- so every sequence is set to MAX(id) + 50. The column defaults are dropped so that ids are
+-- only ever assigned by Hibernate.
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS resumes_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS personal_info_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS work_experience_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS education_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS skills_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS projects_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS custom_sections_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('resumes_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM resumes));
+SELECT setval('personal_info_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM personal_info));
+SELECT setval('work_experience_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM work_experience));
+SELECT setval('education_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM education));
+SELECT setval('skills_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM skills));
+SELECT setval('projects_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM projects));
+SELECT setval('custom_sections_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM custom_sections));
+
+ALTER TABLE resumes ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE personal_info ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE work_experience ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE education ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE skills ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE projects ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE custom_sections ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- Tables created as bigserial use a column default instead of an identity
+ALTER TABLE resumes ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE personal_info ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE work_experience ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE education ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE skills ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE projects ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE custom_sections ALTER COLUMN id DROP DEFAULT;
+
+COMMIT;
@@ -0,0 +1,20 @@
+-- Creates the version history table in an existing PostgreSQL database. The prod profile runs
+-- with ddl-auto=validate and expects it to exist. (H2 development databases get it from ddl-auto=update.)
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS resume_revisions_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS resume_revisions (
+    id bigint PRIMARY KEY,
+    resume_id bigint NOT NULL,
+    revision integer NOT NULL,
+    resume_version bigint,
+    is_full boolean NOT NULL,
+    data bytea NOT NULL,
+    data_size integer NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    CONSTRAINT uk_resume_revisions_resume_revision UNIQUE (resume_id, revision)
+);
+
+COMMIT;
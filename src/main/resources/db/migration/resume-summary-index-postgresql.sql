@@ -0,0 +1,5 @@
+-- Adds the index behind the keyset-paged resume summaries to an existing PostgreSQL database.
+-- It matches the page order, so each page is one range scan instead of a sort of the user's resumes.
+-- (H2 development databases get it from ddl-auto=update.)
+
+CREATE INDEX IF NOT EXISTS idx_resumes_user_updated ON resumes (user_id, updated_at, id);
@@ -0,0 +1,10 @@
+-- Adds the optimistic-lock version columns to the resumes and personal_info tables of an existing
+-- PostgreSQL database. The prod profile runs with ddl-auto=validate and expects these columns to
+-- exist. (H2 development databases get them from ddl-auto=update.)
+
+BEGIN;
+
+ALTER TABLE resumes ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE personal_info ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+
+COMMIT;
@@ -0,0 +1,9 @@
+-- Adds the indexes behind the editor's paged section lists to an existing PostgreSQL database.
+-- Each matches its list's order, so a page is read from the index instead of sorting the section.
+-- (H2 development databases get them from ddl-auto=update.)
+
+CREATE INDEX IF NOT EXISTS idx_work_experience_resume_start ON work_experience (resume_id, start_date, id);
+CREATE INDEX IF NOT EXISTS idx_education_resume_start ON education (resume_id, start_date, id);
+CREATE INDEX IF NOT EXISTS idx_skills_resume_order ON skills (resume_id, display_order, id);
+CREATE INDEX IF NOT EXISTS idx_projects_resume_start ON projects (resume_id, start_date, id);
+CREATE INDEX IF NOT EXISTS idx_custom_sections_resume_order ON custom_sections (resume_id, display_order, id);
@@ -0,0 +1,13 @@
+-- Adds the optimistic-lock version column to the section tables of an existing PostgreSQL
+-- database. The prod profile runs with ddl-auto=validate and expects these columns to exist.
+-- (H2 development databases get them from ddl-auto=update.)
+
+BEGIN;
+
+ALTER TABLE work_experience ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE education ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE skills ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE custom_sections ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+
+COMMIT;
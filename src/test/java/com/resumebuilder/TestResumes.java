@@ -0,0 +1,47 @@
+package com.resumebuilder;
+
+import java.time.LocalDate;
+
+import com.resumebuilder.model.CustomSection;
+import com.resumebuilder.model.Education;
+import com.resumebuilder.model.PersonalInfo;
+import com.resumebuilder.model.Project;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.Skill;
+import com.resumebuilder.model.User;
+import com.resumebuilder.model.WorkExperience;
+
+/**
+ * Builds unsaved users and resumes for persistence tests
+ */
+public final class TestResumes {
+
+    private TestResumes() {
+    }
+
+    public static User user(String email) {
+        return User.builder()
+                .email(email)
+                .password("secret")
+                .firstName("Ann")
+                .lastName("Lee")
+                .build();
+    }
+
+    /**
+     * A resume with personal info and {@code entries} entries in each of its five sections
+     */
+    public static Resume resume(User user, int entries) {
+        Resume resume = Resume.builder().user(user).title("Resume with " + entries + " entries").build();
+        resume.setPersonalInfo(PersonalInfo.builder().firstName("Ann").lastName("Lee").email("ann@example.com").build());
+        for (int i = 0; i < entries; i++) {
+            LocalDate start = LocalDate.of(2000 + i % 20, 1 + i % 12, 1);
+            resume.addWorkExperience(WorkExperience.builder().jobTitle("Engineer " + i).company("Acme").startDate(start).build());
+            resume.addEducation(Education.builder().degree("BSc " + i).institution("University").startDate(start).build());
+            resume.addSkill(Skill.builder().name("Skill " + i).category("Languages").displayOrder(i).build());
+            resume.addProject(Project.builder().name("Project " + i).startDate(start).build());
+            resume.addCustomSection(CustomSection.builder().sectionTitle("Award " + i).displayOrder(i).build());
+        }
+        return resume;
+    }
+}
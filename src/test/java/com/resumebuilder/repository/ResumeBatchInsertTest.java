@@ -0,0 +1,61 @@
+package com.resumebuilder.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.resumebuilder.TestResumes;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.User;
+
+/**
+ * Saving a full resume must be batched: statements grow with the number of tables and JDBC
+ * batches, not with the number of entries
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ResumeBatchInsertTest {
+
+    private static final int SECTIONS = 5;
+    // Resume, personal info and the five sections
+    private static final int TABLES = 2 + SECTIONS;
+    // hibernate.jdbc.batch_size in application.properties
+    private static final int BATCH_SIZE = 50;
+    // A pooled sequence is read at most twice while its first block of ids is allocated
+    private static final int SEQUENCE_CALLS = 2;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        user = entityManager.persistAndFlush(TestResumes.user("ann@example.com"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    void savesAResumeWithABoundedNumberOfStatements(int entries) {
+        Resume resume = TestResumes.resume(user, entries);
+        statistics.clear();
+
+        resumeRepository.saveAndFlush(resume);
+
+        long batches = (entries + BATCH_SIZE - 1) / BATCH_SIZE;
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2 + (long) SECTIONS * entries);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(TABLES * (batches + SEQUENCE_CALLS));
+    }
+}
@@ -0,0 +1,150 @@
+package com.resumebuilder.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resumebuilder.TestResumes;
+import com.resumebuilder.dto.ResumeEdit;
+import com.resumebuilder.dto.ResumeEdit.FieldChange;
+import com.resumebuilder.dto.ResumeEdit.SectionChange;
+import com.resumebuilder.dto.ResumeEditResult;
+import com.resumebuilder.dto.ResumeEditResult.Conflict;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.Skill;
+
+/**
+ * A merge applies every edit or none: any edit that overlaps a concurrent change is reported and
+ * leaves the resume as it was
+ */
+@DataJpaTest
+@AutoConfigureJson
+@Import({ResumeEditService.class, ResumeSectionService.class})
+class ResumeEditServiceTest {
+
+    @Autowired
+    private ResumeEditService resumeEditService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long resumeId;
+    private Skill first;
+    private Skill second;
+
+    @BeforeEach
+    void setUp() {
+        Resume resume = TestResumes.resume(entityManager.persist(TestResumes.user("ann@example.com")), 2);
+        resume.setTitle("Original");
+        resumeId = entityManager.persistAndFlush(resume).getId();
+        first = resume.getSkills().get(0);
+        second = resume.getSkills().get(1);
+        entityManager.clear();
+    }
+
+    @Test
+    void appliesEditsThatOverlapNothing() throws IOException {
+        ResumeEditResult result = apply(new ResumeEdit(
+                Map.of("title", new FieldChange("Original", "Renamed"),
+                        "personalInfo.phone", new FieldChange(null, "555-0100")),
+                List.of(rename(first, first.getVersion(), "Kotlin"), add("Go"))));
+
+        assertThat(result.isApplied()).isTrue();
+        Resume stored = reload();
+        assertThat(stored.getTitle()).isEqualTo("Renamed");
+        assertThat(stored.getPersonalInfo().getPhone()).isEqualTo("555-0100");
+        assertThat(stored.getSkills()).extracting(Skill::getName).contains("Kotlin", "Go");
+    }
+
+    @Test
+    void acceptsAFieldAlreadyAtTheNewValue() throws IOException {
+        ResumeEditResult result = apply(new ResumeEdit(
+                Map.of("title", new FieldChange("Older title", "Original")), List.of()));
+
+        assertThat(result.isApplied()).isTrue();
+    }
+
+    @Test
+    void rejectsAFieldWhoseBaseIsStale() throws IOException {
+        ResumeEditResult result = apply(new ResumeEdit(
+                Map.of("title", new FieldChange("Older title", "Renamed")), List.of()));
+
+        assertThat(result.conflicts()).containsExactly(new Conflict("title", "changed by another client"));
+        assertThat(reload().getTitle()).isEqualTo("Original");
+    }
+
+    @Test
+    void rejectsAnEntryEditedAtAStaleVersion() throws IOException {
+        ResumeEditResult result = apply(new ResumeEdit(Map.of(),
+                List.of(rename(first, first.getVersion() - 1, "Kotlin"))));
+
+        assertThat(result.conflicts()).containsExactly(
+                new Conflict("skills/" + first.getId(), "changed by another client"));
+        assertThat(entityManager.find(Skill.class, first.getId()).getName()).isEqualTo(first.getName());
+    }
+
+    @Test
+    void rejectsAnEntryDeletedByAnotherClient() throws IOException {
+        entityManager.remove(entityManager.find(Skill.class, first.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        ResumeEditResult result = apply(new ResumeEdit(Map.of(),
+                List.of(rename(first, first.getVersion(), "Kotlin"))));
+
+        assertThat(result.conflicts()).containsExactly(
+                new Conflict("skills/" + first.getId(), "deleted by another client"));
+    }
+
+    @Test
+    void appliesNothingWhenAnyEditConflicts() throws IOException {
+        ResumeEditResult result = apply(new ResumeEdit(
+                Map.of("title", new FieldChange("Original", "Renamed")),
+                List.of(rename(first, first.getVersion(), "Kotlin"),
+                        add("Go"),
+                        new SectionChange("skills", second.getId(), second.getVersion(), null, true),
+                        rename(second, second.getVersion() + 1, "Rust"))));
+
+        assertThat(result.isApplied()).isFalse();
+        assertThat(result.conflicts()).extracting(Conflict::target).containsExactly("skills/" + second.getId());
+        Resume stored = reload();
+        assertThat(stored.getTitle()).isEqualTo("Original");
+        assertThat(stored.getSkills()).extracting(Skill::getName).containsExactly(first.getName(), second.getName());
+        assertThat(stored.getVersion()).isEqualTo(result.version());
+    }
+
+    private ResumeEditResult apply(ResumeEdit edit) throws IOException {
+        ResumeEditResult result = resumeEditService.applyEdit(resumeId, edit);
+        entityManager.flush();
+        entityManager.clear();
+        return result;
+    }
+
+    private Resume reload() {
+        return entityManager.find(Resume.class, resumeId);
+    }
+
+    private static SectionChange rename(Skill skill, Long version, String name) {
+        return new SectionChange("skills", skill.getId(), version, nameField(name), false);
+    }
+
+    private static SectionChange add(String name) {
+        return new SectionChange("skills", null, null, nameField(name).put("category", "Languages"), false);
+    }
+
+    private static ObjectNode nameField(String name) {
+        return JsonNodeFactory.instance.objectNode().put("name", name);
+    }
+}
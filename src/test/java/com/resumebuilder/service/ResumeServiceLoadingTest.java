@@ -0,0 +1,113 @@
+package com.resumebuilder.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.resumebuilder.TestResumes;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.User;
+
+/**
+ * Loading a resume with all its sections must cost the same number of statements whatever the
+ * section sizes, and read one row per entry rather than their product
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ResumeService.class)
+class ResumeServiceLoadingTest {
+
+    // The resume plus its personal info, then one query per section
+    private static final long STATEMENTS = 6;
+    private static final int SECTIONS = 5;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private UserService userService;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        user = entityManager.persist(TestResumes.user("ann@example.com"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 40})
+    void loadsAllSectionsWithAFixedNumberOfStatements(int entries) {
+        Long id = entityManager.persistAndFlush(TestResumes.resume(user, entries)).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        Resume resume = resumeService.findByIdWithAllDetails(id).orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS);
+        // Resume, personal info and one entity per entry: rows grow with the sum of the sections
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(2 + (long) SECTIONS * entries);
+        assertThat(resume.getPersonalInfo().getEmail()).isEqualTo("ann@example.com");
+        assertThat(resume.getWorkExperiences()).hasSize(entries);
+        assertThat(resume.getEducations()).hasSize(entries);
+        assertThat(resume.getSkills()).hasSize(entries);
+        assertThat(resume.getProjects()).hasSize(entries);
+        assertThat(resume.getCustomSections()).hasSize(entries);
+    }
+
+    @Test
+    void loadsOnlyTheRequestedSections() {
+        Long id = entityManager.persistAndFlush(TestResumes.resume(user, 10)).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        Resume resume = resumeService.findByIdWithSections(id, EnumSet.of(SectionType.SKILLS)).orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(Hibernate.isInitialized(resume.getSkills())).isTrue();
+        assertThat(Hibernate.isInitialized(resume.getWorkExperiences())).isFalse();
+    }
+
+    @Test
+    void loadsAUsersResumesWithOneQueryPerSection() {
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(TestResumes.resume(user, 4));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<Resume> resumes = resumeService.findByUserIdWithSections(user.getId(), EnumSet.allOf(SectionType.class));
+
+        // Section collections of all three resumes are initialized together
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS);
+        assertThat(resumes).hasSize(3).allSatisfy(resume -> {
+            assertThat(resume.getPersonalInfo().getEmail()).isEqualTo("ann@example.com");
+            assertThat(resume.getSkills()).hasSize(4);
+            assertThat(resume.getCustomSections()).hasSize(4);
+        });
+    }
+
+    @Test
+    void findsNothingForAnUnknownId() {
+        assertThat(resumeService.findByIdWithAllDetails(-1L)).isEmpty();
+    }
+}
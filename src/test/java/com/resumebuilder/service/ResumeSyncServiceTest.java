@@ -0,0 +1,145 @@
+package com.resumebuilder.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.resumebuilder.TestResumes;
+import com.resumebuilder.dto.ResumeEdit;
+import com.resumebuilder.dto.ResumeEdit.FieldChange;
+import com.resumebuilder.dto.ResumeEditResult.Conflict;
+import com.resumebuilder.dto.ResumeResponse;
+import com.resumebuilder.dto.ResumeSync;
+import com.resumebuilder.dto.ResumeSyncResult;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.Skill;
+
+/**
+ * A sync sends back only what differs from the client's copy: parts at the client's version are
+ * left out, and a changed section carries only the entries the client does not hold
+ */
+@DataJpaTest
+@AutoConfigureJson
+@Import({ResumeSyncService.class, ResumeService.class, ResumeEditService.class, ResumeSectionService.class})
+class ResumeSyncServiceTest {
+
+    @Autowired
+    private ResumeSyncService resumeSyncService;
+
+    @Autowired
+    private ResumeSectionService resumeSectionService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private UserService userService;
+
+    private Long resumeId;
+    private Skill first;
+    private Skill second;
+    private ResumeSyncResult copy;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Resume resume = TestResumes.resume(entityManager.persist(TestResumes.user("ann@example.com")), 2);
+        resume.setTitle("Original");
+        resumeId = entityManager.persistAndFlush(resume).getId();
+        first = resume.getSkills().get(0);
+        second = resume.getSkills().get(1);
+        entityManager.clear();
+        copy = sync(new ResumeSync(null, null, null));
+    }
+
+    @Test
+    void sendsTheWholeResumeToAClientWithoutACopy() {
+        assertThat(copy.changed().title()).isEqualTo("Original");
+        assertThat(copy.changed().skills()).extracting(ResumeResponse.SkillEntry::id)
+                .containsExactly(first.getId(), second.getId());
+        assertThat(copy.changed().educations()).hasSize(2);
+    }
+
+    @Test
+    void skipsPartsTheClientAlreadyHolds() throws IOException {
+        ResumeSyncResult result = sync(new ResumeSync(copy.versions(), held(), null));
+
+        assertThat(result.versions()).isEqualTo(copy.versions());
+        assertThat(result.changed().title()).isNull();
+        assertThat(result.changed().personalInfo()).isNull();
+        assertThat(result.changed().skills()).isNull();
+        assertThat(result.changed().educations()).isNull();
+        assertThat(result.removed()).isEmpty();
+    }
+
+    @Test
+    void sendsOnlyTheEntriesTheClientDoesNotHold() throws IOException {
+        resumeSectionService.patchSection(resumeId, SectionType.SKILLS, first.getId(), first.getVersion(),
+                JsonNodeFactory.instance.objectNode().put("name", "Kotlin"));
+        entityManager.flush();
+        entityManager.clear();
+
+        ResumeSyncResult result = sync(new ResumeSync(copy.versions(), held(), null));
+
+        assertThat(result.versions().get("skills")).isNotEqualTo(copy.versions().get("skills"));
+        assertThat(result.changed().skills()).extracting(ResumeResponse.SkillEntry::id, ResumeResponse.SkillEntry::name)
+                .containsExactly(tuple(first.getId(), "Kotlin"));
+        assertThat(result.changed().educations()).isNull();
+        assertThat(result.changed().projects()).isNull();
+    }
+
+    @Test
+    void listsTheEntriesRemovedSinceTheClientsCopy() throws IOException {
+        resumeSectionService.deleteSection(resumeId, SectionType.SKILLS, second.getId(), second.getVersion());
+        entityManager.flush();
+        entityManager.clear();
+
+        ResumeSyncResult result = sync(new ResumeSync(copy.versions(), held(), null));
+
+        assertThat(result.removed()).isEqualTo(Map.of("skills", List.of(second.getId())));
+        assertThat(result.changed().skills()).isEmpty();
+    }
+
+    @Test
+    void returnsConflictsWithTheCurrentContent() throws IOException {
+        ResumeSyncResult result = sync(new ResumeSync(copy.versions(), held(),
+                new ResumeEdit(Map.of("title", new FieldChange("Older title", "Renamed")), List.of())));
+
+        assertThat(result.isApplied()).isFalse();
+        assertThat(result.conflicts()).containsExactly(new Conflict("title", "changed by another client"));
+        assertThat(result.versions()).isEqualTo(copy.versions());
+        assertThat(entityManager.find(Resume.class, resumeId).getTitle()).isEqualTo("Original");
+    }
+
+    private ResumeSyncResult sync(ResumeSync request) throws IOException {
+        ResumeSyncResult result = resumeSyncService.sync(resumeId, request).orElseThrow();
+        entityManager.flush();
+        entityManager.clear();
+        return result;
+    }
+
+    /**
+     * The entry versions of the client's copy, by section
+     */
+    private Map<String, Map<Long, Long>> held() {
+        ResumeResponse response = copy.changed();
+        return Map.of(
+                "skills", response.skills().stream().collect(Collectors.toMap(
+                        ResumeResponse.SkillEntry::id, ResumeResponse.SkillEntry::version)),
+                "educations", response.educations().stream().collect(Collectors.toMap(
+                        ResumeResponse.EducationEntry::id, ResumeResponse.EducationEntry::version)));
+    }
+}
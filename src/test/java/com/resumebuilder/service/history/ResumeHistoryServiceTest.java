@@ -0,0 +1,134 @@
+package com.resumebuilder.service.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.resumebuilder.TestResumes;
+import com.resumebuilder.dto.ResumeRevisionDiff;
+import com.resumebuilder.dto.ResumeRevisionInfo;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.WorkExperience;
+import com.resumebuilder.repository.ResumeRepository;
+import com.resumebuilder.repository.UserRepository;
+import com.resumebuilder.service.ResumeSectionService;
+import com.resumebuilder.service.ResumeService;
+import com.resumebuilder.service.SectionType;
+import com.resumebuilder.service.UserService;
+
+/**
+ * Every kept revision must read back as it was saved, whichever full snapshot its reverse deltas
+ * start from and however many older revisions were pruned.
+ *
+ * Saves go through the services and commit, so revisions are recorded by the after-commit listener
+ * as in the application.
+ */
+@DataJpaTest(properties = {
+        "app.resume.max-versions=" + ResumeHistoryServiceTest.MAX_VERSIONS,
+        "app.resume.history.full-snapshot-interval=" + ResumeHistoryServiceTest.INTERVAL})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureJson
+@Import({ResumeHistoryService.class, ResumeService.class, ResumeSectionService.class})
+class ResumeHistoryServiceTest {
+
+    static final int MAX_VERSIONS = 5;
+    static final int INTERVAL = 3;
+
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    @Autowired
+    private ResumeHistoryService historyService;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private ResumeSectionService resumeSectionService;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private UserService userService;
+
+    private Resume resume;
+
+    @BeforeEach
+    void setUp() {
+        resume = resumeRepository.save(TestResumes.resume(
+                userRepository.save(TestResumes.user("user" + USERS.incrementAndGet() + "@example.com")), 1));
+    }
+
+    @Test
+    void readsEveryRevisionAcrossASnapshotBoundary() {
+        for (int i = 1; i <= 4; i++) {
+            rename("Title " + i);
+        }
+
+        // Revision 3 is on the interval and stays full; 4 is the head
+        assertThat(historyService.listRevisions(resume.getId()))
+                .extracting(ResumeRevisionInfo::revision, ResumeRevisionInfo::full)
+                .containsExactly(tuple(4, true), tuple(3, true), tuple(2, false), tuple(1, false));
+        for (int i = 1; i <= 4; i++) {
+            assertThat(historyService.getRevision(resume.getId(), i).get("title").asText()).isEqualTo("Title " + i);
+        }
+    }
+
+    @Test
+    void readsEveryKeptRevisionAfterPruning() {
+        for (int i = 1; i <= 8; i++) {
+            rename("Title " + i);
+        }
+
+        // Revisions 4 and 5 are deltas on the full revision 6, 7 a delta on the head
+        assertThat(historyService.listRevisions(resume.getId()))
+                .extracting(ResumeRevisionInfo::revision)
+                .containsExactly(8, 7, 6, 5, 4);
+        for (int i = 4; i <= 8; i++) {
+            assertThat(historyService.getRevision(resume.getId(), i).get("title").asText()).isEqualTo("Title " + i);
+        }
+        assertThatThrownBy(() -> historyService.getRevision(resume.getId(), 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void diffsTwoRevisionsByStoredField() throws IOException {
+        rename("Before");
+        WorkExperience job = resume.getWorkExperiences().get(0);
+        resumeSectionService.patchSection(resume.getId(), SectionType.WORK_EXPERIENCES, job.getId(), job.getVersion(),
+                JsonNodeFactory.instance.objectNode().put("responsibilities", "Shipped\nMentored"));
+        rename("After");
+
+        ResumeRevisionDiff diff = historyService.diff(resume.getId(), 1, 3);
+
+        // Derived values such as responsibilityBullets are not part of a revision
+        assertThat(diff.changes()).extracting(ResumeRevisionDiff.Change::path).containsExactly(
+                "/title",
+                "/workExperiences/" + job.getId() + "/responsibilities");
+        assertThat(diff.changes().get(0).before().asText()).isEqualTo("Before");
+        assertThat(diff.changes().get(0).after().asText()).isEqualTo("After");
+        assertThat(diff.changes().get(1).before()).isNull();
+        assertThat(diff.changes().get(1).after().asText()).isEqualTo("Shipped\nMentored");
+    }
+
+    private void rename(String title) {
+        resumeService.updateResume(resume.getId(), title, null, null, null);
+    }
+}